@@ -0,0 +1,94 @@
+package com.comp2042.bench;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.OffHeapBoard;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.brick.BagBrickGenerator;
+import com.comp2042.util.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.foreign.Arena;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({"simple", "bit", "offheap"})
+    public String implementation;
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private Arena arena;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        BagBrickGenerator generator = new BagBrickGenerator(42L);
+        if ("bit".equals(implementation)) {
+            board = new BitBoard(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, generator);
+        } else if ("offheap".equals(implementation)) {
+            arena = Arena.ofConfined();
+            board = new OffHeapBoard(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, generator, arena);
+        } else {
+            board = new SimpleBoard(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, generator);
+        }
+        board.newGame();
+        BoardFixtures.fill(board, fillPercent, 7L);
+        board.createNewBrick();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+    }
+
+    @Benchmark
+    public int moveRotateSequence() {
+        int moved = 0;
+        moved += board.moveBrickLeft() ? 1 : 0;
+        moved += board.moveBrickLeft() ? 1 : 0;
+        moved += board.rotateLeftBrick() ? 1 : 0;
+        moved += board.moveBrickRight() ? 1 : 0;
+        moved += board.moveBrickRight() ? 1 : 0;
+        moved += board.rotateLeftBrick() ? 1 : 0;
+        moved += board.rotateLeftBrick() ? 1 : 0;
+        moved += board.rotateLeftBrick() ? 1 : 0;
+        return moved;
+    }
+
+    @Benchmark
+    public int softDropToRest() {
+        int rows = 0;
+        while (board.moveBrickDown()) {
+            rows++;
+        }
+        board.createNewBrick();
+        return rows;
+    }
+
+    @Benchmark
+    public long stateHash() {
+        return board.getStateHash();
+    }
+}
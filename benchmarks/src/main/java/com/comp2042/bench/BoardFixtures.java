@@ -0,0 +1,61 @@
+package com.comp2042.bench;
+
+import com.comp2042.model.Board;
+
+import java.util.SplittableRandom;
+
+final class BoardFixtures {
+
+    private BoardFixtures() {
+    }
+
+    static int filledRows(int height, int fillPercent) {
+        return height * fillPercent / 100;
+    }
+
+    static int[][] filledMatrix(int width, int height, int fillPercent, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] matrix = new int[height][width];
+        for (int i = height - filledRows(height, fillPercent); i < height; i++) {
+            int hole = random.nextInt(width);
+            for (int j = 0; j < width; j++) {
+                if (j != hole && random.nextInt(4) != 0) {
+                    matrix[i][j] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    static void fill(Board board, int fillPercent, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] matrix = board.getBoardMatrix();
+        int target = matrix.length - filledRows(matrix.length, fillPercent);
+        while (topRow(board.getBoardMatrix()) > target) {
+            int shift = random.nextInt(-5, 6);
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            while (board.moveBrickDown()) {
+                // falls until it rests on the stack
+            }
+            board.mergeBrickToBackground();
+            board.createNewBrick();
+        }
+    }
+
+    private static int topRow(int[][] matrix) {
+        for (int i = 0; i < matrix.length; i++) {
+            for (int cell : matrix[i]) {
+                if (cell != 0) {
+                    return i;
+                }
+            }
+        }
+        return matrix.length;
+    }
+}
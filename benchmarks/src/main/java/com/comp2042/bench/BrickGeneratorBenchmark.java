@@ -0,0 +1,42 @@
+package com.comp2042.bench;
+
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickGeneratorBenchmark {
+
+    @Param({"RANDOM", "BAG", "HISTORY"})
+    public BrickGeneratorType type;
+
+    private SeededBrickGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = type.create(42L);
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+}
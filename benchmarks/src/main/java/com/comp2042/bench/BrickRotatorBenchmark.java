@@ -0,0 +1,51 @@
+package com.comp2042.bench;
+
+import com.comp2042.model.BrickRotator;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.NextShapeInfo;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickRotatorBenchmark {
+
+    private static final int T_BRICK = 6;
+
+    private BrickRotator rotator;
+
+    @Setup
+    public void setUp() {
+        rotator = new BrickRotator();
+        rotator.setBrick(SeededBrickGenerator.brickForColour(T_BRICK));
+    }
+
+    @Benchmark
+    public int getNextShape() {
+        NextShapeInfo next = rotator.getNextShape();
+        rotator.setCurrentShape(next.getPosition());
+        return next.getShape().length;
+    }
+
+    @Benchmark
+    public BrickShape rotateThroughTable() {
+        int next = rotator.getNextPosition();
+        rotator.setCurrentShape(next);
+        return rotator.getRotation(next);
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.bench;
+
+import com.comp2042.bot.BoardBatch;
+import com.comp2042.bot.BoardFeatures;
+import com.comp2042.bot.FeatureExtractor;
+import com.comp2042.bot.ScalarFeatureExtractor;
+import com.comp2042.bot.VectorFeatureExtractor;
+import com.comp2042.util.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class FeatureExtractorBenchmark {
+
+    private static final int BOARDS = 1024;
+
+    @Param({"scalar", "vector"})
+    public String implementation;
+
+    @Param({"25", "50", "75"})
+    public int fillPercent;
+
+    private FeatureExtractor extractor;
+    private BoardBatch batch;
+    private BoardFeatures features;
+
+    @Setup
+    public void setUp() {
+        extractor = "vector".equals(implementation) ? new VectorFeatureExtractor() : new ScalarFeatureExtractor();
+        batch = new BoardBatch(BOARDS, GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT);
+        for (int i = 0; i < BOARDS; i++) {
+            batch.add(BoardFixtures.filledMatrix(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, fillPercent, i));
+        }
+        features = new BoardFeatures(BOARDS, GameConstants.BOARD_WIDTH);
+    }
+
+    // Reported per board, i.e. divided by the batch size.
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public BoardFeatures extract() {
+        extractor.extract(batch, features);
+        return features;
+    }
+}
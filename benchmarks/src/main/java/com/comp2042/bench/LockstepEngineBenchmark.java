@@ -0,0 +1,108 @@
+package com.comp2042.bench;
+
+import com.comp2042.env.LockstepEngine;
+import com.comp2042.env.VectorEnv;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.util.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Both sides step the same 50k games; the object-per-game VectorEnv is the baseline for the array layout.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LockstepEngineBenchmark {
+
+    private static final int BOARDS = 50_000;
+    private static final int ACTION_SETS = 16;
+    private static final int GRAVITY_STEPS = 20;
+
+    @State(Scope.Thread)
+    public static class Actions {
+
+        int[][] sets;
+        long[] seeds;
+        int next;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42L);
+            sets = new int[ACTION_SETS][BOARDS];
+            for (int[] set : sets) {
+                for (int i = 0; i < BOARDS; i++) {
+                    set[i] = random.nextInt(VectorEnv.ACTION_COUNT);
+                }
+            }
+            seeds = new long[BOARDS];
+            for (int i = 0; i < BOARDS; i++) {
+                seeds[i] = random.nextLong();
+            }
+        }
+
+        int[] nextSet() {
+            return sets[next++ & (ACTION_SETS - 1)];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Lockstep {
+
+        LockstepEngine engine;
+
+        @Setup(Level.Trial)
+        public void setUp(Actions actions) {
+            engine = new LockstepEngine(BOARDS, GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT,
+                    BrickGeneratorType.BAG, GRAVITY_STEPS);
+            engine.reset(actions.seeds);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Objects {
+
+        VectorEnv env;
+
+        @Setup(Level.Trial)
+        public void setUp(Actions actions) {
+            env = new VectorEnv(BOARDS, GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT,
+                    BrickGeneratorType.BAG, GRAVITY_STEPS, 1);
+            env.reset(actions.seeds);
+        }
+
+        @TearDown
+        public void tearDown() {
+            env.close();
+        }
+    }
+
+    // Reported per board step, i.e. divided by the board count.
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public float[] lockstep(Lockstep state, Actions actions) {
+        state.engine.step(actions.nextSet());
+        return state.engine.getRewards();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public float[] vectorEnv(Objects state, Actions actions) {
+        state.env.step(actions.nextSet());
+        return state.env.getRewards();
+    }
+}
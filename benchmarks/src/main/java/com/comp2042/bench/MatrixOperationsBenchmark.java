@@ -0,0 +1,110 @@
+package com.comp2042.bench;
+
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RotationTable;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.MatrixOperations;
+import com.comp2042.util.ZobristKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    private static final int T_BRICK = 6;
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private int[][] board;
+    private int[][] clearable;
+    private int[][] scratch;
+    private int[][] brick;
+    private BrickShape shape;
+    private int x;
+    private int y;
+    private int clearFrom;
+    private int clearTo;
+
+    @Setup
+    public void setUp() {
+        int width = GameConstants.BOARD_WIDTH;
+        int height = GameConstants.BOARD_HEIGHT;
+        board = BoardFixtures.filledMatrix(width, height, fillPercent, 42L);
+        scratch = new int[height][width];
+        shape = RotationTable.forColour(T_BRICK).getRotation(0);
+        brick = shape.getMatrix();
+        x = GameConstants.SPAWN_X;
+        y = Math.max(0, height - BoardFixtures.filledRows(height, fillPercent) - 3);
+
+        clearable = MatrixOperations.copy(board);
+        clearTo = height - 1;
+        clearFrom = clearTo - 3;
+        int stackTop = height - BoardFixtures.filledRows(height, fillPercent);
+        for (int i = Math.max(stackTop, clearTo - 1); i <= clearTo; i++) {
+            Arrays.fill(clearable[i], 1);
+        }
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(board, brick, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(board, shape, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(board, brick, x, y);
+    }
+
+    @Benchmark
+    public int[][] copyIntoAndMergeInto() {
+        MatrixOperations.copyInto(board, scratch);
+        MatrixOperations.mergeInto(scratch, shape, x, y);
+        return scratch;
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(board);
+    }
+
+    @Benchmark
+    public int[][] copyInto() {
+        MatrixOperations.copyInto(board, scratch);
+        return scratch;
+    }
+
+    @Benchmark
+    public long findAndCopyWithoutFullRows() {
+        long fullRows = MatrixOperations.findFullRows(clearable, clearFrom, clearTo);
+        MatrixOperations.copyWithoutRows(clearable, scratch, fullRows);
+        return fullRows;
+    }
+
+    @Benchmark
+    public long matrixHash() {
+        return ZobristKeys.matrixHash(board);
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.bench;
+
+import com.comp2042.bot.PlacementGenerator;
+import com.comp2042.bot.Placements;
+import com.comp2042.model.brick.RotationTable;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementGeneratorBenchmark {
+
+    @Param({"1", "4", "6"})
+    public int colour;
+
+    @Param({"0", "25", "50"})
+    public int fillPercent;
+
+    private PlacementGenerator generator;
+    private Placements placements;
+    private RotationTable table;
+    private int[][] board;
+    private int[] rows;
+    private byte[] path;
+
+    @Setup
+    public void setUp() {
+        generator = new PlacementGenerator(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT);
+        placements = new Placements(generator.getMaxPlacements());
+        table = RotationTable.forColour(colour);
+        board = BoardFixtures.filledMatrix(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, fillPercent, 42L);
+        rows = new int[GameConstants.BOARD_HEIGHT];
+        MatrixOperations.toRowMasks(board, rows);
+        path = new byte[generator.getMaxPlacements()];
+    }
+
+    @Benchmark
+    public int generateFromMatrix() {
+        return generator.generate(board, table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, placements);
+    }
+
+    @Benchmark
+    public int generateFromRowMasks() {
+        return generator.generate(rows, table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, placements);
+    }
+
+    @Benchmark
+    public int generateAndPathToLast() {
+        int count = generator.generate(rows, table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, placements);
+        return generator.getPath(placements, count - 1, path);
+    }
+}
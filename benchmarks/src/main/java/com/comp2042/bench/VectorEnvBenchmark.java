@@ -0,0 +1,66 @@
+package com.comp2042.bench;
+
+import com.comp2042.env.VectorEnv;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.util.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorEnvBenchmark {
+
+    private static final int ENVS = 256;
+    private static final int ACTION_SETS = 64;
+
+    @Param({"1", "4"})
+    public int shards;
+
+    private VectorEnv env;
+    private int[][] actions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        env = new VectorEnv(ENVS, GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, BrickGeneratorType.BAG,
+                20, shards);
+        SplittableRandom random = new SplittableRandom(42L);
+        actions = new int[ACTION_SETS][ENVS];
+        for (int[] set : actions) {
+            for (int i = 0; i < ENVS; i++) {
+                set[i] = random.nextInt(VectorEnv.ACTION_COUNT);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        env.close();
+    }
+
+    // Reported per env step, i.e. divided by the env count.
+    @Benchmark
+    @OperationsPerInvocation(ENVS)
+    public float[] step() {
+        env.step(actions[next++ & (ACTION_SETS - 1)]);
+        return env.getRewards();
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.bot;
+
+import com.comp2042.util.MatrixOperations;
+
+// Candidate boards packed for feature extraction, one int mask per row. Rows are stored row-major across
+// boards: row i of board b is rows[i * capacity + b], so the same row of neighbouring boards is contiguous.
+public final class BoardBatch {
+
+    // Row transitions pad each row with a wall bit on either side.
+    public static final int MAX_WIDTH = Integer.SIZE - 2;
+    // VectorFeatureExtractor counts column heights in HEIGHT_BITS bit planes.
+    static final int HEIGHT_BITS = 6;
+    public static final int MAX_HEIGHT = (1 << HEIGHT_BITS) - 1;
+
+    private final int capacity;
+    private final int width;
+    private final int height;
+    private final int[] rows;
+    private final int[] scratch;
+    private int size;
+
+    public BoardBatch(int capacity, int width, int height) {
+        if (width > MAX_WIDTH || height > MAX_HEIGHT) {
+            throw new IllegalArgumentException("Boards must be at most " + MAX_WIDTH + " wide and "
+                    + MAX_HEIGHT + " high: " + width + "x" + height);
+        }
+        this.capacity = capacity;
+        this.width = width;
+        this.height = height;
+        rows = new int[capacity * height];
+        scratch = new int[height];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Returns the index of the added board.
+    public int add(int[][] boardMatrix) {
+        MatrixOperations.toRowMasks(boardMatrix, scratch);
+        return add(scratch, 0);
+    }
+
+    // Takes height row masks starting at offset, as written by BitBoard.copyRowMasks or VectorEnv.getRows.
+    public int add(int[] rowMasks, int offset) {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full: " + capacity);
+        }
+        for (int i = 0; i < height; i++) {
+            rows[i * capacity + size] = rowMasks[offset + i];
+        }
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    int[] getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.bot;
+
+// Features of the boards in a BoardBatch, filled in by a FeatureExtractor. Heights count from the floor;
+// holes are empty cells with a filled cell somewhere above; row transitions count filled/empty changes along
+// each row with the walls filled; column transitions count them down each column with the space above the
+// board empty and the floor filled; wells count open empty cells whose left and right neighbours are filled.
+public final class BoardFeatures {
+
+    private final int capacity;
+    private final int width;
+
+    // heights[column * capacity + board]; the other arrays are indexed by board.
+    final int[] heights;
+    final int[] aggregateHeights;
+    final int[] maxHeights;
+    final int[] bumpiness;
+    final int[] holes;
+    final int[] rowTransitions;
+    final int[] columnTransitions;
+    final int[] wells;
+
+    public BoardFeatures(int capacity, int width) {
+        this.capacity = capacity;
+        this.width = width;
+        heights = new int[capacity * width];
+        aggregateHeights = new int[capacity];
+        maxHeights = new int[capacity];
+        bumpiness = new int[capacity];
+        holes = new int[capacity];
+        rowTransitions = new int[capacity];
+        columnTransitions = new int[capacity];
+        wells = new int[capacity];
+    }
+
+    void checkFits(BoardBatch boards) {
+        if (boards.getWidth() != width || boards.size() > capacity) {
+            throw new IllegalArgumentException("Features for " + capacity + " boards of width " + width
+                    + " cannot hold " + boards.size() + " boards of width " + boards.getWidth());
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight(int board, int column) {
+        return heights[column * capacity + board];
+    }
+
+    public int getAggregateHeight(int board) {
+        return aggregateHeights[board];
+    }
+
+    public int getMaxHeight(int board) {
+        return maxHeights[board];
+    }
+
+    public int getBumpiness(int board) {
+        return bumpiness[board];
+    }
+
+    public int getHoles(int board) {
+        return holes[board];
+    }
+
+    public int getRowTransitions(int board) {
+        return rowTransitions[board];
+    }
+
+    public int getColumnTransitions(int board) {
+        return columnTransitions[board];
+    }
+
+    public int getWells(int board) {
+        return wells[board];
+    }
+}
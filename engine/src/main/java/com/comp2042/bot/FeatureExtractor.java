@@ -0,0 +1,21 @@
+package com.comp2042.bot;
+
+public interface FeatureExtractor {
+
+    // Computes the features of every board in the batch; features must be as wide as the batch and hold all of it.
+    void extract(BoardBatch boards, BoardFeatures features);
+
+    // The Vector API implementation when jdk.incubator.vector is loaded and wide enough, the scalar one otherwise.
+    static FeatureExtractor create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                if (VectorFeatureExtractor.isSupported()) {
+                    return new VectorFeatureExtractor();
+                }
+            } catch (LinkageError e) {
+                // the module is present but not readable from here, e.g. on the class path without --add-modules
+            }
+        }
+        return new ScalarFeatureExtractor();
+    }
+}
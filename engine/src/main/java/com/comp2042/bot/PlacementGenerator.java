@@ -0,0 +1,265 @@
+package com.comp2042.bot;
+
+import com.comp2042.event.EventType;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RotationTable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class PlacementGenerator {
+
+    public static final byte DOWN = (byte) EventType.DOWN.ordinal();
+    public static final byte LEFT = (byte) EventType.LEFT.ordinal();
+    public static final byte RIGHT = (byte) EventType.RIGHT.ordinal();
+    public static final byte ROTATE = (byte) EventType.ROTATE.ordinal();
+
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_HEIGHT = Long.SIZE - 4;
+    // Shapes live in 4x4 matrices, so a piece can hang up to 3 empty columns past the left wall.
+    private static final int PAD = 4;
+
+    private final int width;
+    private final int height;
+    private final int slotBits;
+    private final int xSlots;
+    private final long validRows;
+
+    // Bit y of columns[c + PAD] is set when cell (y, c) is blocked; walls and floor count as blocked.
+    private final long[] columns;
+    // Bit y of free[slot(r, x)] / reachable[slot(r, x)] describes the piece in rotation r at (x, y).
+    private final long[] free;
+    private final long[] reachable;
+    private final int[] nextRotation = new int[MAX_ROTATIONS];
+    private final int[] worklist;
+    private final boolean[] queued;
+
+    private final long[] visited;
+    private final int[] queue;
+    private final int[] parent;
+    private final byte[] input;
+
+    private RotationTable table;
+    private int startRotation;
+    private int startX;
+    private int startY;
+    private long searches;
+
+    public PlacementGenerator(int width, int height) {
+        if (height > MAX_HEIGHT) {
+            throw new IllegalArgumentException("Board height must not exceed " + MAX_HEIGHT + ": " + height);
+        }
+        this.width = width;
+        this.height = height;
+        slotBits = Integer.SIZE - Integer.numberOfLeadingZeros(width + PAD - 1);
+        xSlots = 1 << slotBits;
+        validRows = (1L << height) - 1;
+        columns = new long[xSlots + PAD];
+        int slots = MAX_ROTATIONS * xSlots;
+        free = new long[slots];
+        reachable = new long[slots];
+        worklist = new int[slots];
+        queued = new boolean[slots];
+        int states = slots * height;
+        visited = new long[(states + Long.SIZE - 1) / Long.SIZE];
+        queue = new int[states];
+        parent = new int[states];
+        input = new byte[states];
+    }
+
+    public int getMaxPlacements() {
+        return MAX_ROTATIONS * xSlots * height;
+    }
+
+    public int generate(int[][] boardMatrix, RotationTable table, int rotation, int x, int y, Placements out) {
+        Arrays.fill(columns, ~0L);
+        for (int c = 0; c < width; c++) {
+            long column = ~validRows;
+            for (int row = 0; row < height; row++) {
+                if (boardMatrix[row][c] != 0) {
+                    column |= 1L << row;
+                }
+            }
+            columns[c + PAD] = column;
+        }
+        return search(table, rotation, x, y, out);
+    }
+
+    public int generate(int[] boardRows, RotationTable table, int rotation, int x, int y, Placements out) {
+        Arrays.fill(columns, ~0L);
+        for (int c = 0; c < width; c++) {
+            columns[c + PAD] = ~validRows;
+        }
+        for (int row = 0; row < height; row++) {
+            for (int bits = boardRows[row]; bits != 0; bits &= bits - 1) {
+                columns[Integer.numberOfTrailingZeros(bits) + PAD] |= 1L << row;
+            }
+        }
+        return search(table, rotation, x, y, out);
+    }
+
+    private int search(RotationTable table, int rotation, int x, int y, Placements out) {
+        this.table = table;
+        startRotation = rotation;
+        startX = x;
+        startY = y;
+        out.clear(this, ++searches);
+        int rotations = table.getRotationCount();
+        for (int r = 0; r < rotations; r++) {
+            BrickShape shape = table.getRotation(r);
+            nextRotation[r] = table.getNextRotation(r);
+            int base = r << slotBits;
+            int first = PAD - shape.getMinX();
+            int last = width - 1 - shape.getMaxX() + PAD;
+            Arrays.fill(free, base, base + xSlots, 0L);
+            for (int slot = first; slot <= last; slot++) {
+                free[base | slot] = freeRows(shape, slot - PAD);
+            }
+        }
+        Arrays.fill(reachable, 0, rotations << slotBits, 0L);
+        if (y < 0 || y >= height || x < -PAD || x >= width || (free[slot(rotation, x)] & (1L << y)) == 0) {
+            return 0;
+        }
+        int tail = 0;
+        int start = slot(rotation, x);
+        reachable[start] = 1L << y;
+        worklist[tail++] = start;
+        queued[start] = true;
+        for (int head = 0; head != tail; head = head + 1 == worklist.length ? 0 : head + 1) {
+            int current = worklist[head];
+            queued[current] = false;
+            long reach = fillDown(reachable[current], free[current]);
+            reachable[current] = reach;
+            int r = current >>> slotBits;
+            int column = current & (xSlots - 1);
+            if (column > 0) {
+                tail = spread(reach, current - 1, tail);
+            }
+            if (column < xSlots - 1) {
+                tail = spread(reach, current + 1, tail);
+            }
+            int next = nextRotation[r];
+            if (next != r) {
+                tail = spread(reach, (next << slotBits) | column, tail);
+            }
+        }
+        for (int r = 0; r < rotations; r++) {
+            for (int column = 0; column < xSlots; column++) {
+                int current = (r << slotBits) | column;
+                long resting = reachable[current] & ~(free[current] >>> 1);
+                for (; resting != 0; resting &= resting - 1) {
+                    int restY = Long.numberOfTrailingZeros(resting);
+                    out.add(r, column - PAD, restY, (current * height) + restY);
+                }
+            }
+        }
+        return out.size();
+    }
+
+    private int spread(long reach, int target, int tail) {
+        long added = reach & free[target] & ~reachable[target];
+        if (added == 0) {
+            return tail;
+        }
+        reachable[target] |= added;
+        if (!queued[target]) {
+            queued[target] = true;
+            worklist[tail] = target;
+            tail = tail + 1 == worklist.length ? 0 : tail + 1;
+        }
+        return tail;
+    }
+
+    private long freeRows(BrickShape shape, int x) {
+        long blocked = 0L;
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            blocked |= columns[x + shape.getCellX(i) + PAD] >>> shape.getCellY(i);
+        }
+        return ~blocked & validRows;
+    }
+
+    // Extends every reachable row downward through the contiguous free rows below it.
+    private static long fillDown(long reach, long free) {
+        long open = free;
+        reach |= open & (reach << 1);
+        open &= open << 1;
+        reach |= open & (reach << 2);
+        open &= open << 2;
+        reach |= open & (reach << 4);
+        open &= open << 4;
+        reach |= open & (reach << 8);
+        open &= open << 8;
+        reach |= open & (reach << 16);
+        open &= open << 16;
+        reach |= open & (reach << 32);
+        return reach;
+    }
+
+    private int slot(int rotation, int x) {
+        return (rotation << slotBits) | (x + PAD);
+    }
+
+    // Paths are rebuilt from the reachability the last search left behind, so only its placements are accepted.
+    public int getPath(Placements placements, int index, byte[] target) {
+        if (!placements.isFrom(this, searches)) {
+            throw new IllegalArgumentException("Placements do not come from the latest generate call");
+        }
+        int goal = placements.getState(Objects.checkIndex(index, placements.size()));
+        int start = slot(startRotation, startX) * height + startY;
+        Arrays.fill(visited, 0L);
+        int head = 0;
+        int tail = 0;
+        markVisited(start);
+        parent[start] = -1;
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            if (state == goal) {
+                break;
+            }
+            int y = state % height;
+            int current = state / height;
+            int r = current >>> slotBits;
+            int column = current & (xSlots - 1);
+            tail = visit(state, current, y + 1, DOWN, tail);
+            if (column > 0) {
+                tail = visit(state, current - 1, y, LEFT, tail);
+            }
+            if (column < xSlots - 1) {
+                tail = visit(state, current + 1, y, RIGHT, tail);
+            }
+            int next = nextRotation[r];
+            if (next != r) {
+                tail = visit(state, (next << slotBits) | column, y, ROTATE, tail);
+            }
+        }
+        int length = 0;
+        for (int state = goal; parent[state] != -1; state = parent[state]) {
+            length++;
+        }
+        int position = length;
+        for (int state = goal; parent[state] != -1; state = parent[state]) {
+            target[--position] = input[state];
+        }
+        return length;
+    }
+
+    private int visit(int from, int current, int y, byte move, int tail) {
+        if (y >= height || (reachable[current] & (1L << y)) == 0) {
+            return tail;
+        }
+        int state = current * height + y;
+        if ((visited[state >>> 6] & (1L << state)) != 0) {
+            return tail;
+        }
+        markVisited(state);
+        parent[state] = from;
+        input[state] = move;
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    private void markVisited(int state) {
+        visited[state >>> 6] |= 1L << state;
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.bot;
+
+public final class Placements {
+
+    private final int[] rotation;
+    private final int[] x;
+    private final int[] y;
+    private final int[] state;
+    private int size;
+    private PlacementGenerator generator;
+    private long search;
+
+    public Placements(int capacity) {
+        rotation = new int[capacity];
+        x = new int[capacity];
+        y = new int[capacity];
+        state = new int[capacity];
+    }
+
+    void clear(PlacementGenerator generator, long search) {
+        size = 0;
+        this.generator = generator;
+        this.search = search;
+    }
+
+    boolean isFrom(PlacementGenerator generator, long search) {
+        return this.generator == generator && this.search == search;
+    }
+
+    void add(int rotation, int x, int y, int state) {
+        this.rotation[size] = rotation;
+        this.x[size] = x;
+        this.y[size] = y;
+        this.state[size] = state;
+        size++;
+    }
+
+    int getState(int index) {
+        return state[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRotation(int index) {
+        return rotation[index];
+    }
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getY(int index) {
+        return y[index];
+    }
+}
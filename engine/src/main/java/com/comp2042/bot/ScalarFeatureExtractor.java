@@ -0,0 +1,65 @@
+package com.comp2042.bot;
+
+// One board at a time, walking its row masks from the top; also finishes the tail of a vectorised batch.
+public final class ScalarFeatureExtractor implements FeatureExtractor {
+
+    @Override
+    public void extract(BoardBatch boards, BoardFeatures features) {
+        features.checkFits(boards);
+        for (int board = 0; board < boards.size(); board++) {
+            extract(boards, board, features);
+        }
+    }
+
+    static void extract(BoardBatch boards, int board, BoardFeatures features) {
+        int[] rows = boards.getRows();
+        int capacity = boards.getCapacity();
+        int featureCapacity = features.getCapacity();
+        int width = boards.getWidth();
+        int height = boards.getHeight();
+        int fullRow = (1 << width) - 1;
+        int walls = 1 | 1 << (width + 1);
+        int pairs = (1 << (width + 1)) - 1;
+        for (int column = 0; column < width; column++) {
+            features.heights[column * featureCapacity + board] = 0;
+        }
+        int covered = 0;
+        int previous = 0;
+        int holes = 0;
+        int rowTransitions = 0;
+        int columnTransitions = 0;
+        int wells = 0;
+        for (int i = 0; i < height; i++) {
+            int row = rows[i * capacity + board];
+            int padded = row << 1 | walls;
+            holes += Integer.bitCount(~row & covered & fullRow);
+            rowTransitions += Integer.bitCount((padded ^ padded >>> 1) & pairs);
+            columnTransitions += Integer.bitCount(row ^ previous);
+            wells += Integer.bitCount(~row & ~covered & padded & padded >>> 2 & fullRow);
+            for (int tops = row & ~covered; tops != 0; tops &= tops - 1) {
+                features.heights[Integer.numberOfTrailingZeros(tops) * featureCapacity + board] = height - i;
+            }
+            covered |= row;
+            previous = row;
+        }
+        columnTransitions += Integer.bitCount(~previous & fullRow);
+        int aggregateHeight = 0;
+        int maxHeight = 0;
+        int bumpiness = 0;
+        for (int column = 0; column < width; column++) {
+            int columnHeight = features.heights[column * featureCapacity + board];
+            aggregateHeight += columnHeight;
+            maxHeight = Math.max(maxHeight, columnHeight);
+            if (column > 0) {
+                bumpiness += Math.abs(columnHeight - features.heights[(column - 1) * featureCapacity + board]);
+            }
+        }
+        features.aggregateHeights[board] = aggregateHeight;
+        features.maxHeights[board] = maxHeight;
+        features.bumpiness[board] = bumpiness;
+        features.holes[board] = holes;
+        features.rowTransitions[board] = rowTransitions;
+        features.columnTransitions[board] = columnTransitions;
+        features.wells[board] = wells;
+    }
+}
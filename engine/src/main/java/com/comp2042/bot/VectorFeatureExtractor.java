@@ -0,0 +1,125 @@
+package com.comp2042.bot;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// One board per vector lane: BoardBatch keeps row i of neighbouring boards contiguous, so each row of a whole
+// lane group is one load. Column heights are summed as bit-sliced counters (HEIGHT_BITS planes holding one bit
+// of every column's count) and unpacked once per group. Needs --add-modules jdk.incubator.vector.
+public final class VectorFeatureExtractor implements FeatureExtractor {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int MIN_LANES = 4;
+
+    // Narrower vectors would not beat the scalar loop.
+    public static boolean isSupported() {
+        return SPECIES.length() >= MIN_LANES;
+    }
+
+    @Override
+    public void extract(BoardBatch boards, BoardFeatures features) {
+        features.checkFits(boards);
+        int size = boards.size();
+        int bound = SPECIES.loopBound(size);
+        int board = 0;
+        for (; board < bound; board += SPECIES.length()) {
+            extractLanes(boards, board, features);
+        }
+        for (; board < size; board++) {
+            ScalarFeatureExtractor.extract(boards, board, features);
+        }
+    }
+
+    private static void extractLanes(BoardBatch boards, int first, BoardFeatures features) {
+        int[] rows = boards.getRows();
+        int capacity = boards.getCapacity();
+        int featureCapacity = features.getCapacity();
+        int width = boards.getWidth();
+        int height = boards.getHeight();
+        int fullRow = (1 << width) - 1;
+        int walls = 1 | 1 << (width + 1);
+        int pairs = (1 << (width + 1)) - 1;
+
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector covered = zero;
+        IntVector previous = zero;
+        IntVector holes = zero;
+        IntVector rowTransitions = zero;
+        IntVector columnTransitions = zero;
+        IntVector wells = zero;
+        IntVector plane0 = zero;
+        IntVector plane1 = zero;
+        IntVector plane2 = zero;
+        IntVector plane3 = zero;
+        IntVector plane4 = zero;
+        IntVector plane5 = zero;
+        for (int i = 0; i < height; i++) {
+            IntVector row = IntVector.fromArray(SPECIES, rows, i * capacity + first);
+            IntVector empty = row.not();
+            IntVector padded = row.lanewise(VectorOperators.LSHL, 1).or(walls);
+            holes = holes.add(empty.and(covered).and(fullRow).lanewise(VectorOperators.BIT_COUNT));
+            rowTransitions = rowTransitions.add(padded.lanewise(VectorOperators.XOR,
+                    padded.lanewise(VectorOperators.LSHR, 1)).and(pairs).lanewise(VectorOperators.BIT_COUNT));
+            columnTransitions = columnTransitions.add(
+                    row.lanewise(VectorOperators.XOR, previous).lanewise(VectorOperators.BIT_COUNT));
+            wells = wells.add(empty.and(covered.not()).and(padded).and(padded.lanewise(VectorOperators.LSHR, 2))
+                    .and(fullRow).lanewise(VectorOperators.BIT_COUNT));
+            covered = covered.or(row);
+            previous = row;
+            // Every column filled at or above row i adds one to its height.
+            IntVector carry = covered;
+            IntVector next = plane0.and(carry);
+            plane0 = plane0.lanewise(VectorOperators.XOR, carry);
+            carry = next;
+            next = plane1.and(carry);
+            plane1 = plane1.lanewise(VectorOperators.XOR, carry);
+            carry = next;
+            next = plane2.and(carry);
+            plane2 = plane2.lanewise(VectorOperators.XOR, carry);
+            carry = next;
+            next = plane3.and(carry);
+            plane3 = plane3.lanewise(VectorOperators.XOR, carry);
+            carry = next;
+            next = plane4.and(carry);
+            plane4 = plane4.lanewise(VectorOperators.XOR, carry);
+            carry = next;
+            plane5 = plane5.lanewise(VectorOperators.XOR, carry);
+        }
+        columnTransitions = columnTransitions.add(previous.not().and(fullRow).lanewise(VectorOperators.BIT_COUNT));
+
+        IntVector aggregateHeight = zero;
+        IntVector maxHeight = zero;
+        IntVector bumpiness = zero;
+        IntVector left = zero;
+        // Column c's height is bit c of the planes, read from bit 0 while the planes shift right one column at a time.
+        for (int column = 0; column < width; column++) {
+            IntVector columnHeight = plane5.and(1);
+            columnHeight = columnHeight.add(columnHeight).add(plane4.and(1));
+            columnHeight = columnHeight.add(columnHeight).add(plane3.and(1));
+            columnHeight = columnHeight.add(columnHeight).add(plane2.and(1));
+            columnHeight = columnHeight.add(columnHeight).add(plane1.and(1));
+            columnHeight = columnHeight.add(columnHeight).add(plane0.and(1));
+            columnHeight.intoArray(features.heights, column * featureCapacity + first);
+            aggregateHeight = aggregateHeight.add(columnHeight);
+            maxHeight = maxHeight.max(columnHeight);
+            if (column > 0) {
+                bumpiness = bumpiness.add(columnHeight.sub(left).abs());
+            }
+            left = columnHeight;
+            plane0 = plane0.lanewise(VectorOperators.LSHR, 1);
+            plane1 = plane1.lanewise(VectorOperators.LSHR, 1);
+            plane2 = plane2.lanewise(VectorOperators.LSHR, 1);
+            plane3 = plane3.lanewise(VectorOperators.LSHR, 1);
+            plane4 = plane4.lanewise(VectorOperators.LSHR, 1);
+            plane5 = plane5.lanewise(VectorOperators.LSHR, 1);
+        }
+        aggregateHeight.intoArray(features.aggregateHeights, first);
+        maxHeight.intoArray(features.maxHeights, first);
+        bumpiness.intoArray(features.bumpiness, first);
+        holes.intoArray(features.holes, first);
+        rowTransitions.intoArray(features.rowTransitions, first);
+        columnTransitions.intoArray(features.columnTransitions, first);
+        wells.intoArray(features.wells, first);
+    }
+}
@@ -1,8 +1,6 @@
 package com.comp2042.controller;
 
 import com.comp2042.data.ClearRow;
-import com.comp2042.data.DownData;
-import com.comp2042.data.ViewData;
 import com.comp2042.event.EventSource;
 import com.comp2042.event.InputEventListener;
 import com.comp2042.event.MoveEvent;
@@ -19,7 +17,7 @@ public class GameController implements InputEventListener {
     }
 
     @Override
-    public DownData onDownEvent(MoveEvent event) {
+    public ClearRow onDownEvent(MoveEvent event) {
         boolean canMove = board.moveBrickDown();
         ClearRow clearRow = null;
         if (!canMove) {
@@ -34,30 +32,26 @@ public class GameController implements InputEventListener {
                 board.getScore().add(GameConstants.MANUAL_DOWN_SCORE);
             }
         }
-        return new DownData(clearRow, board.getViewData());
+        return clearRow;
     }
 
     @Override
-    public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+    public boolean onLeftEvent(MoveEvent event) {
+        return board.moveBrickLeft();
     }
 
     @Override
-    public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+    public boolean onRightEvent(MoveEvent event) {
+        return board.moveBrickRight();
     }
 
     @Override
-    public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+    public boolean onRotateEvent(MoveEvent event) {
+        return board.rotateLeftBrick();
     }
 
     @Override
-    public ViewData createNewGame() {
+    public void createNewGame() {
         board.newGame();
-        return board.getViewData();
     }
 }
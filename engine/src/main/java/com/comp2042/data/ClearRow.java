@@ -0,0 +1,33 @@
+package com.comp2042.data;
+
+public final class ClearRow {
+
+    // Returned for every lock that clears nothing, so the common case allocates nothing.
+    public static final ClearRow NONE = new ClearRow(0, 0L, 0);
+
+    private final int linesRemoved;
+    private final long clearedRows;
+    private final int scoreBonus;
+
+    public ClearRow(int linesRemoved, long clearedRows, int scoreBonus) {
+        this.linesRemoved = linesRemoved;
+        this.clearedRows = clearedRows;
+        this.scoreBonus = scoreBonus;
+    }
+
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    public long getClearedRows() {
+        return clearedRows;
+    }
+
+    public boolean isRowCleared(int row) {
+        return (clearedRows & (1L << row)) != 0;
+    }
+
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+}
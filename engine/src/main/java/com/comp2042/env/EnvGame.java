@@ -0,0 +1,102 @@
+package com.comp2042.env;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.sim.BatchSimulator;
+
+// One env: a board, its controller and the episode bookkeeping shared by VectorEnv and SharedEnvServer.
+final class EnvGame {
+
+    private static final MoveEvent MOVE_LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent MOVE_RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent MOVE_ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent MOVE_DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final int width;
+    private final int height;
+    private final BrickGeneratorType generatorType;
+    private final int gravitySteps;
+
+    private BitBoard board;
+    private GameController controller;
+    private long baseSeed;
+    private long episodes;
+    private int sinceGravity;
+    private boolean done;
+    private boolean backgroundChanged;
+
+    EnvGame(int width, int height, BrickGeneratorType generatorType, int gravitySteps) {
+        this.width = width;
+        this.height = height;
+        this.generatorType = generatorType;
+        this.gravitySteps = gravitySteps;
+    }
+
+    void reset(long seed) {
+        baseSeed = seed;
+        episodes = 0;
+        startEpisode();
+        done = false;
+    }
+
+    // Returns the reward; a finished episode restarts at once, with isDone() reporting the end.
+    int step(int action) {
+        int scoreBefore = board.getScore().getValue();
+        boolean locked = false;
+        switch (action) {
+            case VectorEnv.LEFT -> controller.onLeftEvent(MOVE_LEFT);
+            case VectorEnv.RIGHT -> controller.onRightEvent(MOVE_RIGHT);
+            case VectorEnv.ROTATE -> controller.onRotateEvent(MOVE_ROTATE);
+            case VectorEnv.DOWN -> locked = controller.onDownEvent(MOVE_DOWN) != null;
+            case VectorEnv.HARD_DROP -> {
+                while (!locked) {
+                    locked = controller.onDownEvent(MOVE_DOWN) != null;
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown action: " + action);
+        }
+        if (gravitySteps > 0 && ++sinceGravity >= gravitySteps) {
+            sinceGravity = 0;
+            if (!locked && !board.isGameOver()) {
+                locked = controller.onDownEvent(GRAVITY) != null;
+            }
+        }
+        int reward = board.getScore().getValue() - scoreBefore;
+        done = board.isGameOver();
+        backgroundChanged = locked;
+        if (done) {
+            episodes++;
+            startEpisode();
+        }
+        return reward;
+    }
+
+    private void startEpisode() {
+        board = new BitBoard(width, height, generatorType.create(BatchSimulator.gameSeed(baseSeed, (int) episodes)));
+        controller = new GameController(board);
+        sinceGravity = 0;
+        backgroundChanged = true;
+    }
+
+    BitBoard getBoard() {
+        return board;
+    }
+
+    boolean isDone() {
+        return done;
+    }
+
+    // True after a reset or a lock, i.e. whenever the background has to be copied out again.
+    boolean isBackgroundChanged() {
+        return backgroundChanged;
+    }
+
+    long getEpisodes() {
+        return episodes;
+    }
+}
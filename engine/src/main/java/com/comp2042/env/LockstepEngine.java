@@ -0,0 +1,317 @@
+package com.comp2042.env;
+
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RotationTable;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.sim.BatchSimulator;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+// N games stored as structs of arrays: one long[] plane holds every board's row masks back to back and the
+// falling piece, score and episode state live in parallel primitive arrays indexed by board. A step walks the
+// boards in one loop over those arrays; only the brick generators are objects, and they are touched on spawn.
+// Actions and rules are those of VectorEnv, so both produce the same games from the same seeds.
+public final class LockstepEngine {
+
+    public static final int MAX_WIDTH = Long.SIZE - 4;
+
+    private static final int MAX_ROTATIONS = 4;
+    private static final int SHAPE_ROWS = 4;
+    private static final int NO_FIT = -1;
+
+    // Indexed by colour * MAX_ROTATIONS + rotation; SHAPE_MASKS has SHAPE_ROWS entries per shape.
+    private static final long[] SHAPE_MASKS = new long[(RotationTable.getBrickCount() + 1) * MAX_ROTATIONS * SHAPE_ROWS];
+    private static final byte[] SHAPE_MIN_Y = new byte[(RotationTable.getBrickCount() + 1) * MAX_ROTATIONS];
+    private static final byte[] SHAPE_MAX_Y = new byte[(RotationTable.getBrickCount() + 1) * MAX_ROTATIONS];
+    private static final byte[] ROTATION_COUNTS = new byte[RotationTable.getBrickCount() + 1];
+
+    static {
+        for (int colour = 1; colour <= RotationTable.getBrickCount(); colour++) {
+            RotationTable table = RotationTable.forColour(colour);
+            ROTATION_COUNTS[colour] = (byte) table.getRotationCount();
+            for (int rotation = 0; rotation < table.getRotationCount(); rotation++) {
+                BrickShape shape = table.getRotation(rotation);
+                int index = colour * MAX_ROTATIONS + rotation;
+                SHAPE_MIN_Y[index] = (byte) shape.getMinY();
+                SHAPE_MAX_Y[index] = (byte) shape.getMaxY();
+                for (int row = shape.getMinY(); row <= shape.getMaxY(); row++) {
+                    SHAPE_MASKS[index * SHAPE_ROWS + row] = shape.getRowMask(row);
+                }
+            }
+        }
+    }
+
+    private final int boards;
+    private final int width;
+    private final int height;
+    private final long fullRow;
+    private final BrickGeneratorType generatorType;
+    private final int gravitySteps;
+
+    private final long[] rows;
+    private final int[] colours;
+    private final int[] rotations;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] previews;
+    private final int[] scores;
+    private final float[] rewards;
+    private final boolean[] dones;
+    private final int[] sinceGravity;
+    private final long[] baseSeeds;
+    private final long[] episodes;
+    private final SeededBrickGenerator[] generators;
+
+    // gravitySteps is the number of steps between automatic drops; 0 leaves all downward motion to the caller.
+    public LockstepEngine(int boards, int width, int height, BrickGeneratorType generatorType, int gravitySteps) {
+        if (boards <= 0 || gravitySteps < 0) {
+            throw new IllegalArgumentException("Board count must be positive and gravity non-negative");
+        }
+        if (width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width must not exceed " + MAX_WIDTH + ": " + width);
+        }
+        this.boards = boards;
+        this.width = width;
+        this.height = height;
+        fullRow = (1L << width) - 1;
+        this.generatorType = generatorType;
+        this.gravitySteps = gravitySteps;
+        rows = new long[boards * height];
+        colours = new int[boards];
+        rotations = new int[boards];
+        xs = new int[boards];
+        ys = new int[boards];
+        previews = new int[boards];
+        scores = new int[boards];
+        rewards = new float[boards];
+        dones = new boolean[boards];
+        sinceGravity = new int[boards];
+        baseSeeds = new long[boards];
+        episodes = new long[boards];
+        generators = new SeededBrickGenerator[boards];
+    }
+
+    // One seed per board; episode e of board i draws its pieces from BatchSimulator.gameSeed(seeds[i], e).
+    public void reset(long[] seeds) {
+        if (seeds.length != boards) {
+            throw new IllegalArgumentException("Expected " + boards + " seeds, got " + seeds.length);
+        }
+        for (int board = 0; board < boards; board++) {
+            baseSeeds[board] = seeds[board];
+            episodes[board] = 0;
+            startEpisode(board);
+            rewards[board] = 0;
+            dones[board] = false;
+        }
+    }
+
+    // actions[i] is one of the VectorEnv actions for board i.
+    public void step(int[] actions) {
+        step(actions, 0, boards);
+    }
+
+    // Steps boards from (inclusive) to to (exclusive); disjoint ranges may be stepped from different threads.
+    public void step(int[] actions, int from, int to) {
+        if (actions.length != boards) {
+            throw new IllegalArgumentException("Expected " + boards + " actions, got " + actions.length);
+        }
+        for (int board = from; board < to; board++) {
+            int action = actions[board];
+            if (action < 0 || action >= VectorEnv.ACTION_COUNT) {
+                throw new IllegalArgumentException("Unknown action: " + action);
+            }
+        }
+        for (int board = from; board < to; board++) {
+            stepBoard(board, actions[board]);
+        }
+    }
+
+    private void stepBoard(int board, int action) {
+        int scoreBefore = scores[board];
+        boolean locked = false;
+        boolean over = false;
+        switch (action) {
+            case VectorEnv.LEFT -> tryMove(board, -1, 0);
+            case VectorEnv.RIGHT -> tryMove(board, 1, 0);
+            case VectorEnv.ROTATE -> rotate(board);
+            case VectorEnv.DOWN -> {
+                if (!tryMove(board, 0, 1)) {
+                    locked = true;
+                    over = lock(board);
+                } else {
+                    scores[board] += GameConstants.MANUAL_DOWN_SCORE;
+                }
+            }
+            default -> {
+                while (tryMove(board, 0, 1)) {
+                    scores[board] += GameConstants.MANUAL_DOWN_SCORE;
+                }
+                locked = true;
+                over = lock(board);
+            }
+        }
+        if (gravitySteps > 0 && ++sinceGravity[board] >= gravitySteps) {
+            sinceGravity[board] = 0;
+            if (!locked && !tryMove(board, 0, 1)) {
+                over = lock(board);
+            }
+        }
+        rewards[board] = scores[board] - scoreBefore;
+        dones[board] = over;
+        if (over) {
+            episodes[board]++;
+            startEpisode(board);
+        }
+    }
+
+    private void startEpisode(int board) {
+        Arrays.fill(rows, board * height, (board + 1) * height, 0L);
+        generators[board] = generatorType.create(BatchSimulator.gameSeed(baseSeeds[board], (int) episodes[board]));
+        scores[board] = 0;
+        sinceGravity[board] = 0;
+        spawn(board);
+    }
+
+    // Returns true when the new piece does not fit, i.e. the game is over.
+    private boolean spawn(int board) {
+        SeededBrickGenerator generator = generators[board];
+        colours[board] = generator.nextBrickColour();
+        rotations[board] = 0;
+        xs[board] = GameConstants.SPAWN_X;
+        ys[board] = GameConstants.SPAWN_Y;
+        previews[board] = generator.getNextBrick().getRotationTable().getColour();
+        return intersects(board, colours[board] * MAX_ROTATIONS, xs[board], ys[board]);
+    }
+
+    private boolean tryMove(int board, int xOffset, int yOffset) {
+        int x = xs[board] + xOffset;
+        int y = ys[board] + yOffset;
+        if (intersects(board, colours[board] * MAX_ROTATIONS + rotations[board], x, y)) {
+            return false;
+        }
+        xs[board] = x;
+        ys[board] = y;
+        return true;
+    }
+
+    private void rotate(int board) {
+        int colour = colours[board];
+        int next = (rotations[board] + 1) % ROTATION_COUNTS[colour];
+        if (!intersects(board, colour * MAX_ROTATIONS + next, xs[board], ys[board])) {
+            rotations[board] = next;
+        }
+    }
+
+    private boolean intersects(int board, int shape, int x, int y) {
+        int base = board * height;
+        int maskBase = shape * SHAPE_ROWS;
+        for (int i = SHAPE_MIN_Y[shape]; i <= SHAPE_MAX_Y[shape]; i++) {
+            int targetY = y + i;
+            if (targetY < 0 || targetY >= height) {
+                return true;
+            }
+            long placed = place(SHAPE_MASKS[maskBase + i], x);
+            if (placed == NO_FIT || (rows[base + targetY] & placed) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long place(long mask, int x) {
+        if (x >= 0) {
+            long placed = mask << x;
+            return (placed & ~fullRow) != 0 ? NO_FIT : placed;
+        }
+        if ((mask & ((1L << -x) - 1)) != 0) {
+            return NO_FIT;
+        }
+        return mask >>> -x;
+    }
+
+    // Merges the piece, clears full rows, scores them and spawns the next piece; returns true on game over.
+    private boolean lock(int board) {
+        int base = board * height;
+        int shape = colours[board] * MAX_ROTATIONS + rotations[board];
+        int maskBase = shape * SHAPE_ROWS;
+        int x = xs[board];
+        int top = ys[board] + SHAPE_MIN_Y[shape];
+        int bottom = ys[board] + SHAPE_MAX_Y[shape];
+        int cleared = 0;
+        for (int i = top; i <= bottom; i++) {
+            long row = rows[base + i] | place(SHAPE_MASKS[maskBase + i - ys[board]], x);
+            rows[base + i] = row;
+            if (row == fullRow) {
+                cleared++;
+            }
+        }
+        if (cleared > 0) {
+            int target = bottom;
+            for (int i = bottom; i >= top; i--) {
+                if (rows[base + i] != fullRow) {
+                    rows[base + target--] = rows[base + i];
+                }
+            }
+            System.arraycopy(rows, base, rows, base + cleared, top);
+            Arrays.fill(rows, base, base + cleared, 0L);
+            scores[board] += MatrixOperations.scoreForLines(cleared);
+        }
+        return spawn(board);
+    }
+
+    public int getBoardCount() {
+        return boards;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // Row masks, height entries per board: bit j of rows[board * height + i] is set when cell (i, j) is occupied.
+    public long[] getRows() {
+        return rows;
+    }
+
+    public int[] getPieceColours() {
+        return colours;
+    }
+
+    public int[] getPieceRotations() {
+        return rotations;
+    }
+
+    public int[] getPieceXs() {
+        return xs;
+    }
+
+    public int[] getPieceYs() {
+        return ys;
+    }
+
+    public int[] getPreviews() {
+        return previews;
+    }
+
+    public int[] getScores() {
+        return scores;
+    }
+
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    public long getEpisodes(int board) {
+        return episodes[board];
+    }
+}
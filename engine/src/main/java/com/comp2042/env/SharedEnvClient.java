@@ -0,0 +1,161 @@
+package com.comp2042.env;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+// Trainer side of the shared-memory bridge. It is the Java stand-in used to test the protocol;
+// a trainer in another language follows the same layout and handshake.
+public final class SharedEnvClient implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer memory;
+    private final int slots;
+    private final int width;
+    private final int height;
+    private final int slotBytes;
+    private final long[] seen;
+
+    public SharedEnvClient(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        memory = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        memory.order(ByteOrder.nativeOrder());
+        if (memory.getInt(SharedEnvLayout.MAGIC_OFFSET) != SharedEnvLayout.MAGIC
+                || memory.getInt(SharedEnvLayout.VERSION_OFFSET) != SharedEnvLayout.VERSION) {
+            throw new IOException("Not a shared env file: " + file);
+        }
+        slots = memory.getInt(SharedEnvLayout.SLOTS_OFFSET);
+        width = memory.getInt(SharedEnvLayout.WIDTH_OFFSET);
+        height = memory.getInt(SharedEnvLayout.HEIGHT_OFFSET);
+        slotBytes = memory.getInt(SharedEnvLayout.SLOT_BYTES_OFFSET);
+        seen = new long[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            seen[slot] = (long) SharedEnvLayout.LONGS.getAcquire(memory, base(slot) + SharedEnvLayout.REQUEST_SEQ);
+        }
+    }
+
+    public boolean isRunning() {
+        return (int) SharedEnvLayout.INTS.getAcquire(memory, SharedEnvLayout.STATUS_OFFSET)
+                == SharedEnvLayout.STATUS_RUNNING;
+    }
+
+    public boolean isStopped() {
+        return (int) SharedEnvLayout.INTS.getAcquire(memory, SharedEnvLayout.STATUS_OFFSET)
+                == SharedEnvLayout.STATUS_STOPPED;
+    }
+
+    // True once the slot holds a state the trainer has not answered yet; its fields may be read until act().
+    public boolean poll(int slot) {
+        return (long) SharedEnvLayout.LONGS.getAcquire(memory, base(slot) + SharedEnvLayout.STATE_SEQ) > seen[slot];
+    }
+
+    // Answers the state returned by the last successful poll(slot).
+    public void act(int slot, int action) {
+        int base = base(slot);
+        long seq = (long) SharedEnvLayout.LONGS.getAcquire(memory, base + SharedEnvLayout.STATE_SEQ);
+        memory.putInt(base + SharedEnvLayout.ACTION, action);
+        seen[slot] = seq;
+        SharedEnvLayout.LONGS.setRelease(memory, base + SharedEnvLayout.REQUEST_SEQ, seq);
+    }
+
+    public int getScore(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.SCORE);
+    }
+
+    public int getReward(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.REWARD);
+    }
+
+    public boolean isDone(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.DONE) != 0;
+    }
+
+    public int getPieceColour(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.PIECE_COLOUR);
+    }
+
+    public int getPieceRotation(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.PIECE_ROTATION);
+    }
+
+    public int getPieceX(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.PIECE_X);
+    }
+
+    public int getPieceY(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.PIECE_Y);
+    }
+
+    public int getPreview(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.PREVIEW);
+    }
+
+    public int getEpisode(int slot) {
+        return memory.getInt(base(slot) + SharedEnvLayout.EPISODE);
+    }
+
+    public int getCell(int slot, int row, int column) {
+        return memory.get(base(slot) + SharedEnvLayout.CELLS + row * width + column);
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private int base(int slot) {
+        return SharedEnvLayout.HEADER_BYTES + slot * slotBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Usage: SharedEnvClient <file> [seconds]. Plays random actions on every slot and reports the step rate.
+    public static void main(String[] args) throws Exception {
+        Path file = Paths.get(args[0]);
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        try (SharedEnvClient client = new SharedEnvClient(file)) {
+            int idle = 0;
+            while (!client.isRunning()) {
+                idle = SharedEnvServer.idle(idle);
+            }
+            SplittableRandom random = new SplittableRandom(7L);
+            long steps = 0;
+            long episodes = 0;
+            long start = System.nanoTime();
+            long deadline = start + seconds * 1_000_000_000L;
+            idle = 0;
+            while (System.nanoTime() < deadline && !client.isStopped()) {
+                boolean progressed = false;
+                for (int slot = 0; slot < client.getSlots(); slot++) {
+                    if (client.poll(slot)) {
+                        if (client.isDone(slot)) {
+                            episodes++;
+                        }
+                        client.act(slot, random.nextInt(VectorEnv.ACTION_COUNT));
+                        steps++;
+                        progressed = true;
+                    }
+                }
+                idle = progressed ? 0 : SharedEnvServer.idle(idle);
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            System.out.printf("slots=%d steps=%d episodes=%d steps/sec=%.0f%n",
+                    client.getSlots(), steps, episodes, steps / elapsed);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.env;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+// File layout shared by SharedEnvServer and SharedEnvClient, in native byte order.
+// Header (one cache line): magic, version, status, slots, width, height, slot bytes.
+// Each slot starts on a cache line. The first line belongs to the trainer (request sequence, action);
+// the second to the server (state sequence and observation), followed by one byte per board cell.
+// Handshake: the server publishes state n by storing STATE_SEQ = n last; the trainer answers by writing
+// ACTION and then storing REQUEST_SEQ = n; the server steps once REQUEST_SEQ equals STATE_SEQ.
+final class SharedEnvLayout {
+
+    static final int MAGIC = 0x54454E56;
+    static final int VERSION = 1;
+
+    static final int STATUS_STARTING = 0;
+    static final int STATUS_RUNNING = 1;
+    static final int STATUS_STOPPED = 2;
+
+    static final int CACHE_LINE = 64;
+    static final int HEADER_BYTES = CACHE_LINE;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int STATUS_OFFSET = 8;
+    static final int SLOTS_OFFSET = 12;
+    static final int WIDTH_OFFSET = 16;
+    static final int HEIGHT_OFFSET = 20;
+    static final int SLOT_BYTES_OFFSET = 24;
+
+    static final int REQUEST_SEQ = 0;
+    static final int ACTION = 8;
+
+    static final int STATE_SEQ = CACHE_LINE;
+    static final int SCORE = STATE_SEQ + 8;
+    static final int REWARD = STATE_SEQ + 12;
+    static final int DONE = STATE_SEQ + 16;
+    static final int PIECE_COLOUR = STATE_SEQ + 20;
+    static final int PIECE_ROTATION = STATE_SEQ + 24;
+    static final int PIECE_X = STATE_SEQ + 28;
+    static final int PIECE_Y = STATE_SEQ + 32;
+    static final int PREVIEW = STATE_SEQ + 36;
+    static final int EPISODE = STATE_SEQ + 40;
+    static final int CELLS = 2 * CACHE_LINE;
+
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private SharedEnvLayout() {
+    }
+
+    static int slotBytes(int width, int height) {
+        return (CELLS + width * height + CACHE_LINE - 1) / CACHE_LINE * CACHE_LINE;
+    }
+
+    static long fileBytes(int slots, int width, int height) {
+        return HEADER_BYTES + (long) slots * slotBytes(width, height);
+    }
+}
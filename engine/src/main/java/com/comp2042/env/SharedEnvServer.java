@@ -0,0 +1,206 @@
+package com.comp2042.env;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.sim.BatchSimulator;
+import com.comp2042.util.GameConstants;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Runs one headless game per slot of a memory-mapped file and steps each slot as soon as the trainer
+// acknowledges its latest state. Both sides only poll the mapping, so a step costs no syscall and no copy.
+public final class SharedEnvServer implements AutoCloseable {
+
+    private static final int SPINS_BEFORE_YIELD = 64;
+    private static final int YIELDS_BEFORE_PARK = 1024;
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer memory;
+    private final int slots;
+    private final int width;
+    private final int height;
+    private final int slotBytes;
+    private final EnvGame[] games;
+    private final long[] stateSeqs;
+    private final Thread[] workers;
+    private final LongAdder steps = new LongAdder();
+    private volatile boolean running;
+
+    public SharedEnvServer(Path file, int slots, int width, int height, BrickGeneratorType generatorType,
+                           int gravitySteps, long baseSeed, int threads) throws IOException {
+        if (slots <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Slot and thread counts must be positive");
+        }
+        this.slots = slots;
+        this.width = width;
+        this.height = height;
+        slotBytes = SharedEnvLayout.slotBytes(width, height);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        memory = channel.map(FileChannel.MapMode.READ_WRITE, 0, SharedEnvLayout.fileBytes(slots, width, height));
+        memory.order(ByteOrder.nativeOrder());
+        memory.putInt(SharedEnvLayout.MAGIC_OFFSET, SharedEnvLayout.MAGIC);
+        memory.putInt(SharedEnvLayout.VERSION_OFFSET, SharedEnvLayout.VERSION);
+        memory.putInt(SharedEnvLayout.SLOTS_OFFSET, slots);
+        memory.putInt(SharedEnvLayout.WIDTH_OFFSET, width);
+        memory.putInt(SharedEnvLayout.HEIGHT_OFFSET, height);
+        memory.putInt(SharedEnvLayout.SLOT_BYTES_OFFSET, slotBytes);
+        setStatus(SharedEnvLayout.STATUS_STARTING);
+
+        games = new EnvGame[slots];
+        stateSeqs = new long[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            games[slot] = new EnvGame(width, height, generatorType, gravitySteps);
+            games[slot].reset(BatchSimulator.gameSeed(baseSeed, slot));
+            publish(slot, 0);
+        }
+        int workerCount = Math.min(threads, slots);
+        workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            int from = slots * i / workerCount;
+            int to = slots * (i + 1) / workerCount;
+            workers[i] = new Thread(() -> serve(from, to), "shared-env-" + i);
+            workers[i].setDaemon(true);
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        setStatus(SharedEnvLayout.STATUS_RUNNING);
+    }
+
+    private void serve(int from, int to) {
+        int idle = 0;
+        while (running) {
+            boolean progressed = false;
+            for (int slot = from; slot < to; slot++) {
+                int base = base(slot);
+                if ((long) SharedEnvLayout.LONGS.getAcquire(memory, base + SharedEnvLayout.REQUEST_SEQ) == stateSeqs[slot]) {
+                    int action = memory.getInt(base + SharedEnvLayout.ACTION);
+                    int reward = action >= 0 && action < VectorEnv.ACTION_COUNT ? games[slot].step(action) : 0;
+                    publish(slot, reward);
+                    progressed = true;
+                }
+            }
+            if (progressed) {
+                idle = 0;
+            } else {
+                idle = idle(idle);
+            }
+        }
+    }
+
+    // Spins first, then yields, then parks briefly, so an idle trainer does not keep a core busy.
+    static int idle(int idle) {
+        if (idle < SPINS_BEFORE_YIELD) {
+            Thread.onSpinWait();
+        } else if (idle < YIELDS_BEFORE_PARK) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return idle + 1;
+    }
+
+    private void publish(int slot, int reward) {
+        EnvGame game = games[slot];
+        BitBoard board = game.getBoard();
+        int base = base(slot);
+        if (game.isBackgroundChanged()) {
+            int[][] cells = board.getBoardMatrix();
+            int cell = base + SharedEnvLayout.CELLS;
+            for (int[] row : cells) {
+                for (int colour : row) {
+                    memory.put(cell++, (byte) colour);
+                }
+            }
+        }
+        memory.putInt(base + SharedEnvLayout.SCORE, board.getScore().getValue());
+        memory.putInt(base + SharedEnvLayout.REWARD, reward);
+        memory.putInt(base + SharedEnvLayout.DONE, game.isDone() ? 1 : 0);
+        memory.putInt(base + SharedEnvLayout.PIECE_COLOUR, board.getActiveShape().getColour());
+        memory.putInt(base + SharedEnvLayout.PIECE_ROTATION, board.getActiveRotation());
+        memory.putInt(base + SharedEnvLayout.PIECE_X, board.getActiveX());
+        memory.putInt(base + SharedEnvLayout.PIECE_Y, board.getActiveY());
+        memory.putInt(base + SharedEnvLayout.PREVIEW, board.getPreviewShape().getColour());
+        memory.putInt(base + SharedEnvLayout.EPISODE, (int) game.getEpisodes());
+        long seq = ++stateSeqs[slot];
+        SharedEnvLayout.LONGS.setRelease(memory, base + SharedEnvLayout.STATE_SEQ, seq);
+        if (seq > 1) {
+            steps.increment();
+        }
+    }
+
+    private int base(int slot) {
+        return SharedEnvLayout.HEADER_BYTES + slot * slotBytes;
+    }
+
+    private void setStatus(int status) {
+        SharedEnvLayout.INTS.setRelease(memory, SharedEnvLayout.STATUS_OFFSET, status);
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getSteps() {
+        return steps.sum();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        for (Thread worker : workers) {
+            if (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        setStatus(SharedEnvLayout.STATUS_STOPPED);
+        memory.force();
+        channel.close();
+    }
+
+    // Usage: SharedEnvServer <file> [slots] [threads] [seconds]
+    public static void main(String[] args) throws Exception {
+        Path file = Paths.get(args[0]);
+        int slots = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        try (SharedEnvServer server = new SharedEnvServer(file, slots, GameConstants.BOARD_WIDTH,
+                GameConstants.BOARD_HEIGHT, BrickGeneratorType.BAG, 20, 42L, threads)) {
+            server.start();
+            long start = System.nanoTime();
+            Thread.sleep(seconds * 1000L);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            System.out.printf("slots=%d threads=%d steps=%d steps/sec=%.0f%n",
+                    slots, threads, server.getSteps(), server.getSteps() / elapsed);
+        }
+    }
+}
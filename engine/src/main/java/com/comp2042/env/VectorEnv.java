@@ -0,0 +1,214 @@
+package com.comp2042.env;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.model.brick.BrickShape;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+// K independent games stepped in lockstep. Observations are written in place into arrays owned by the
+// env and handed out once; nothing is allocated per step except when an episode ends and a game is rebuilt.
+// A finished env resets itself in the same step: its done flag is set and its observation is the new episode's.
+public final class VectorEnv implements AutoCloseable {
+
+    // The first four match the EventType ordinals, like the paths from PlacementGenerator.
+    public static final int DOWN = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 2;
+    public static final int ROTATE = 3;
+    public static final int HARD_DROP = 4;
+    public static final int ACTION_COUNT = 5;
+
+    public static final int PIECE_FIELDS = 4;
+    public static final int PIECE_COLOUR = 0;
+    public static final int PIECE_ROTATION = 1;
+    public static final int PIECE_X = 2;
+    public static final int PIECE_Y = 3;
+
+    private final int envs;
+    private final int width;
+    private final int height;
+    private final EnvGame[] games;
+
+    private final int[] rows;
+    private final int[] pieces;
+    private final int[] previews;
+    private final int[] scores;
+    private final float[] rewards;
+    private final boolean[] dones;
+
+    private final ForkJoinPool pool;
+    private final Shard[] shards;
+    private final RecursiveAction allShards = new RecursiveAction() {
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(shards);
+        }
+    };
+    private int[] actions;
+
+    // gravitySteps is the number of env steps between automatic drops; 0 leaves all downward motion to the agent.
+    public VectorEnv(int envs, int width, int height, BrickGeneratorType generatorType, int gravitySteps, int shardCount) {
+        if (envs <= 0 || shardCount <= 0 || gravitySteps < 0) {
+            throw new IllegalArgumentException("Env count and shard count must be positive and gravity non-negative");
+        }
+        this.envs = envs;
+        this.width = width;
+        this.height = height;
+        games = new EnvGame[envs];
+        for (int env = 0; env < envs; env++) {
+            games[env] = new EnvGame(width, height, generatorType, gravitySteps);
+        }
+        rows = new int[envs * height];
+        pieces = new int[envs * PIECE_FIELDS];
+        previews = new int[envs];
+        scores = new int[envs];
+        rewards = new float[envs];
+        dones = new boolean[envs];
+        int shardTotal = Math.min(shardCount, envs);
+        shards = new Shard[shardTotal];
+        for (int i = 0; i < shardTotal; i++) {
+            shards[i] = new Shard(envs * i / shardTotal, envs * (i + 1) / shardTotal);
+        }
+        pool = shardTotal > 1 ? new ForkJoinPool(shardTotal) : null;
+        long[] seeds = new long[envs];
+        SplittableRandom random = new SplittableRandom();
+        for (int i = 0; i < envs; i++) {
+            seeds[i] = random.nextLong();
+        }
+        reset(seeds);
+    }
+
+    public void reset(long[] seeds) {
+        if (seeds.length != envs) {
+            throw new IllegalArgumentException("Expected " + envs + " seeds, got " + seeds.length);
+        }
+        for (int env = 0; env < envs; env++) {
+            games[env].reset(seeds[env]);
+            writeObservation(env);
+            rewards[env] = 0;
+            dones[env] = false;
+        }
+    }
+
+    // actions[i] is one of DOWN, LEFT, RIGHT, ROTATE or HARD_DROP for env i.
+    public void step(int[] actions) {
+        if (actions.length != envs) {
+            throw new IllegalArgumentException("Expected " + envs + " actions, got " + actions.length);
+        }
+        for (int action : actions) {
+            if (action < 0 || action >= ACTION_COUNT) {
+                throw new IllegalArgumentException("Unknown action: " + action);
+            }
+        }
+        this.actions = actions;
+        if (pool == null) {
+            shards[0].compute();
+        } else {
+            for (Shard shard : shards) {
+                shard.reinitialize();
+            }
+            allShards.reinitialize();
+            pool.invoke(allShards);
+        }
+        this.actions = null;
+    }
+
+    private void stepEnv(int env, int action) {
+        EnvGame game = games[env];
+        rewards[env] = game.step(action);
+        dones[env] = game.isDone();
+        writeObservation(env);
+    }
+
+    private void writeObservation(int env) {
+        EnvGame game = games[env];
+        if (game.isBackgroundChanged()) {
+            game.getBoard().copyRowMasks(rows, env * height);
+        }
+        writePiece(env);
+    }
+
+    private void writePiece(int env) {
+        BitBoard board = games[env].getBoard();
+        BrickShape shape = board.getActiveShape();
+        int base = env * PIECE_FIELDS;
+        pieces[base + PIECE_COLOUR] = shape.getColour();
+        pieces[base + PIECE_ROTATION] = board.getActiveRotation();
+        pieces[base + PIECE_X] = board.getActiveX();
+        pieces[base + PIECE_Y] = board.getActiveY();
+        previews[env] = board.getPreviewShape().getColour();
+        scores[env] = board.getScore().getValue();
+    }
+
+    public int getEnvCount() {
+        return envs;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // Row masks, height entries per env: bit j of rows[env * height + i] is set when cell (i, j) is occupied.
+    public int[] getRows() {
+        return rows;
+    }
+
+    // PIECE_FIELDS entries per env: colour, rotation, x and y of the falling piece.
+    public int[] getPieces() {
+        return pieces;
+    }
+
+    public int[] getPreviews() {
+        return previews;
+    }
+
+    public int[] getScores() {
+        return scores;
+    }
+
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    public long getEpisodes(int env) {
+        return games[env].getEpisodes();
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private final class Shard extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        private Shard(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int[] stepActions = actions;
+            for (int env = from; env < to; env++) {
+                stepEnv(env, stepActions[env]);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.comp2042.event;
+
+public interface BoardListener {
+
+    void onBoardChanged(int[][] boardMatrix);
+    void onScoreChanged(int score);
+    void onGameOverChanged(boolean gameOver);
+}
@@ -0,0 +1,12 @@
+package com.comp2042.event;
+
+import com.comp2042.data.ClearRow;
+
+public interface InputEventListener {
+
+    ClearRow onDownEvent(MoveEvent event);
+    boolean onLeftEvent(MoveEvent event);
+    boolean onRightEvent(MoveEvent event);
+    boolean onRotateEvent(MoveEvent event);
+    void createNewGame();
+}
@@ -0,0 +1,37 @@
+package com.comp2042.leaderboard;
+
+import java.util.Comparator;
+
+public final class HighScore {
+
+    // Best first; on equal scores the earlier entry keeps its place.
+    public static final Comparator<HighScore> RANKING = Comparator.comparingInt(HighScore::getScore).reversed()
+            .thenComparingLong(HighScore::getTimestampMillis);
+
+    private final String player;
+    private final int score;
+    private final long timestampMillis;
+
+    public HighScore(String player, int score, long timestampMillis) {
+        this.player = player;
+        this.score = score;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public String toString() {
+        return player + " " + score;
+    }
+}
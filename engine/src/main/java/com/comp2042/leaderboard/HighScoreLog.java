@@ -0,0 +1,275 @@
+package com.comp2042.leaderboard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// Append-only log of [length][timestamp][score][player][CRC32 of everything before it].
+// Submitters queue into a shared batch; whoever finds no flush running writes and forces the whole batch,
+// so concurrent sessions share one fsync instead of paying for one each.
+public final class HighScoreLog implements Closeable {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int FIXED_PAYLOAD_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int MAX_PLAYER_BYTES = 64;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final int MAX_RECORD_BYTES = LENGTH_BYTES + FIXED_PAYLOAD_BYTES + MAX_PLAYER_BYTES + CHECKSUM_BYTES;
+    private static final long RECOVERY_WINDOW_BYTES = 64L << 20;
+
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private final TopScores topScores;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchDone = lock.newCondition();
+
+    private Batch pending = new Batch();
+    private boolean flushing;
+    private long position;
+    private long records;
+    private long syncs;
+    private boolean closed;
+
+    public HighScoreLog(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    public HighScoreLog(Path file, int capacity) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        fileLock = lockFile(file);
+        topScores = new TopScores(capacity);
+        try {
+            position = recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // recover() truncates whatever it does not recognise, so a second process must never open the same log.
+    private FileLock lockFile(Path file) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IOException("High score log is already in use: " + file);
+        }
+        return lock;
+    }
+
+    // Replays every intact record into the top list and cuts the log at the first torn or corrupt one.
+    // The log is mapped a window at a time, so its size is not limited by what one mapping can address.
+    private long recover() throws IOException {
+        long size = channel.size();
+        CRC32 crc = new CRC32();
+        MappedByteBuffer window = null;
+        long windowStart = 0;
+        long offset = 0;
+        while (size - offset >= LENGTH_BYTES) {
+            long windowEnd = windowStart + (window == null ? 0 : window.capacity());
+            if (window == null || (offset + MAX_RECORD_BYTES > windowEnd && windowEnd < size)) {
+                windowStart = offset;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                        Math.min(RECOVERY_WINDOW_BYTES, size - windowStart));
+            }
+            int record = (int) (offset - windowStart);
+            int length = window.getInt(record);
+            if (length < FIXED_PAYLOAD_BYTES || length > FIXED_PAYLOAD_BYTES + MAX_PLAYER_BYTES
+                    || offset + LENGTH_BYTES + length + CHECKSUM_BYTES > size) {
+                break;
+            }
+            crc.reset();
+            crc.update(window.slice(record, LENGTH_BYTES + length));
+            if ((int) crc.getValue() != window.getInt(record + LENGTH_BYTES + length)) {
+                break;
+            }
+            int payload = record + LENGTH_BYTES;
+            byte[] player = new byte[length - FIXED_PAYLOAD_BYTES];
+            window.get(payload + FIXED_PAYLOAD_BYTES, player);
+            topScores.offer(new HighScore(new String(player, StandardCharsets.UTF_8),
+                    window.getInt(payload + Long.BYTES), window.getLong(payload)));
+            records++;
+            offset += LENGTH_BYTES + length + CHECKSUM_BYTES;
+        }
+        if (offset < size) {
+            channel.truncate(offset);
+            channel.force(false);
+        }
+        return offset;
+    }
+
+    // Returns once the entry is on disk.
+    public void submit(HighScore entry) throws IOException {
+        byte[] record = encode(entry);
+        lock.lock();
+        try {
+            ensureOpen();
+            Batch batch = pending;
+            batch.add(record, entry);
+            while (!batch.done) {
+                if (flushing) {
+                    batchDone.awaitUninterruptibly();
+                } else {
+                    flush();
+                }
+            }
+            if (batch.failure != null) {
+                throw new IOException("Could not save high score", batch.failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held; releases it around the write so new submitters can fill the next batch.
+    private void flush() {
+        Batch batch = pending;
+        pending = new Batch();
+        flushing = true;
+        long start = position;
+        IOException failure = null;
+        lock.unlock();
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(batch.bytes.toByteArray());
+            long target = start;
+            while (bytes.hasRemaining()) {
+                target += channel.write(bytes, target);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            lock.lock();
+        }
+        flushing = false;
+        if (failure == null) {
+            position += batch.bytes.size();
+            records += batch.entries.size();
+            syncs++;
+            for (HighScore entry : batch.entries) {
+                topScores.offer(entry);
+            }
+        } else {
+            try {
+                channel.truncate(position);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        batch.done = true;
+        batch.failure = failure;
+        batchDone.signalAll();
+    }
+
+    private static byte[] encode(HighScore entry) {
+        String player = entry.getPlayer();
+        byte[] name = player.getBytes(StandardCharsets.UTF_8);
+        while (name.length > MAX_PLAYER_BYTES) {
+            player = player.substring(0, player.length() - 1);
+            name = player.getBytes(StandardCharsets.UTF_8);
+        }
+        int length = FIXED_PAYLOAD_BYTES + name.length;
+        ByteBuffer record = ByteBuffer.allocate(LENGTH_BYTES + length + CHECKSUM_BYTES);
+        record.putInt(length).putLong(entry.getTimestampMillis()).putInt(entry.getScore()).put(name);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        return record.array();
+    }
+
+    public List<HighScore> getTopScores() {
+        lock.lock();
+        try {
+            return topScores.toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRecordCount() {
+        lock.lock();
+        try {
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSyncCount() {
+        lock.lock();
+        try {
+            return syncs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("High score log is closed");
+        }
+    }
+
+    // Waits for queued entries to reach the disk before closing.
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            while (flushing || !pending.entries.isEmpty()) {
+                if (flushing) {
+                    batchDone.awaitUninterruptibly();
+                } else {
+                    flush();
+                }
+            }
+            closed = true;
+            try {
+                fileLock.release();
+            } finally {
+                channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Batch {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final List<HighScore> entries = new ArrayList<>();
+        private boolean done;
+        private IOException failure;
+
+        private void add(byte[] record, HighScore entry) {
+            bytes.writeBytes(record);
+            entries.add(entry);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.leaderboard;
+
+import com.comp2042.event.BoardListener;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Board listener that saves the final score of every game off the game thread, so an fsync never stalls a step.
+public final class HighScoreSubmitter implements BoardListener {
+
+    private final HighScoreLog log;
+    private final String player;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "high-score-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int score;
+
+    public HighScoreSubmitter(HighScoreLog log, String player) {
+        this.log = log;
+        this.player = player;
+    }
+
+    @Override
+    public void onBoardChanged(int[][] boardMatrix) {
+    }
+
+    @Override
+    public void onScoreChanged(int score) {
+        this.score = score;
+    }
+
+    @Override
+    public void onGameOverChanged(boolean gameOver) {
+        if (gameOver && score > 0) {
+            HighScore entry = new HighScore(player, score, System.currentTimeMillis());
+            writer.execute(() -> {
+                try {
+                    log.submit(entry);
+                } catch (IOException e) {
+                    System.err.println("Could not save high score " + entry + ": " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    // Waits for scores already handed over to reach the log.
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Bounded heap whose root is the weakest kept entry, so each offer costs O(log capacity).
+final class TopScores {
+
+    private final int capacity;
+    private final PriorityQueue<HighScore> heap;
+
+    TopScores(int capacity) {
+        this.capacity = capacity;
+        heap = new PriorityQueue<>(capacity + 1, HighScore.RANKING.reversed());
+    }
+
+    void offer(HighScore entry) {
+        if (heap.size() < capacity) {
+            heap.add(entry);
+        } else if (HighScore.RANKING.compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    List<HighScore> toList() {
+        List<HighScore> ranked = new ArrayList<>(heap);
+        ranked.sort(HighScore.RANKING);
+        return ranked;
+    }
+}
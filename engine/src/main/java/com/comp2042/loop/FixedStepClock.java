@@ -0,0 +1,67 @@
+package com.comp2042.loop;
+
+public final class FixedStepClock {
+
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+    private long lastNanos;
+    private long accumulator;
+    private long ticks;
+    private long droppedSteps;
+    private boolean started;
+
+    public FixedStepClock(long stepNanos, int maxCatchUpSteps) {
+        if (stepNanos <= 0 || maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Step length and catch-up limit must be positive");
+        }
+        this.stepNanos = stepNanos;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    // Returns how many whole steps are due at nowNanos. A hitch longer than maxCatchUpSteps is replayed
+    // only up to that limit and the rest of the backlog is dropped, so one stall cannot snowball.
+    public int advance(long nowNanos) {
+        if (!started) {
+            started = true;
+            lastNanos = nowNanos;
+            return 0;
+        }
+        accumulator += Math.max(0, nowNanos - lastNanos);
+        lastNanos = nowNanos;
+        long due = accumulator / stepNanos;
+        if (due > maxCatchUpSteps) {
+            droppedSteps += due - maxCatchUpSteps;
+            due = maxCatchUpSteps;
+            accumulator = accumulator % stepNanos;
+        } else {
+            accumulator -= due * stepNanos;
+        }
+        ticks += due;
+        return (int) due;
+    }
+
+    public double getAlpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    public long getNanosUntilNextStep() {
+        return stepNanos - accumulator;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    public void reset() {
+        started = false;
+        accumulator = 0;
+    }
+}
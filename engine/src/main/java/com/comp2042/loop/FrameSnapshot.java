@@ -0,0 +1,97 @@
+package com.comp2042.loop;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.brick.BrickShape;
+
+public final class FrameSnapshot {
+
+    private final int[][] cells;
+    private BrickShape activeShape;
+    private int activeX;
+    private int activeY;
+    private int previousActiveY;
+    private BrickShape previewShape;
+    private int score;
+    private boolean gameOver;
+    private long tick;
+    private long sequence;
+    private long capturedNanos;
+    private long stepNanos;
+    private double capturedAlpha;
+
+    public FrameSnapshot(int width, int height) {
+        cells = new int[height][width];
+    }
+
+    void capture(Board board, int previousActiveY, long sequence, long tick, long nowNanos, long stepNanos, double alpha) {
+        int[][] matrix = board.getBoardMatrix();
+        for (int i = 0; i < cells.length; i++) {
+            System.arraycopy(matrix[i], 0, cells[i], 0, cells[i].length);
+        }
+        activeShape = board.getActiveShape();
+        activeX = board.getActiveX();
+        activeY = board.getActiveY();
+        this.previousActiveY = previousActiveY;
+        previewShape = board.getPreviewShape();
+        score = board.getScore().getValue();
+        gameOver = board.isGameOver();
+        this.sequence = sequence;
+        this.tick = tick;
+        capturedNanos = nowNanos;
+        this.stepNanos = stepNanos;
+        capturedAlpha = alpha;
+    }
+
+    public int[][] getCells() {
+        return cells;
+    }
+
+    public BrickShape getActiveShape() {
+        return activeShape;
+    }
+
+    public int getActiveX() {
+        return activeX;
+    }
+
+    public int getActiveY() {
+        return activeY;
+    }
+
+    public int getPreviousActiveY() {
+        return previousActiveY;
+    }
+
+    public BrickShape getPreviewShape() {
+        return previewShape;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isInterpolating() {
+        return previousActiveY != activeY;
+    }
+
+    // Rows the active piece should be drawn above activeY so it moves smoothly from the previous step to this one.
+    public double getInterpolatedPieceOffset(long nowNanos) {
+        if (!isInterpolating()) {
+            return 0;
+        }
+        double alpha = Math.min(1, capturedAlpha + (double) Math.max(0, nowNanos - capturedNanos) / stepNanos);
+        return (previousActiveY - activeY) * (1 - alpha);
+    }
+}
@@ -0,0 +1,232 @@
+package com.comp2042.loop;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.util.GameConstants;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public final class GameLoop {
+
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final Board board;
+    private final InputEventListener listener;
+    private final FixedStepClock clock;
+    private final InputRingBuffer inputs = new InputRingBuffer(GameConstants.INPUT_BUFFER_CAPACITY);
+    private final InputCommandHandler applyInput = this::applyInput;
+    private final TripleBuffer<FrameSnapshot> snapshots;
+    private PieceLockListener pieceLockListener;
+    private Runnable snapshotListener;
+    private long sequence;
+    private long tick;
+
+    private volatile long gravityNanos;
+    private volatile boolean paused;
+    private volatile boolean newGameRequested;
+    private long gravityElapsed;
+    private int previousPieceY;
+    private int pieceY;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public GameLoop(Board board, InputEventListener listener) {
+        this(board, listener, TimeUnit.SECONDS.toNanos(1) / GameConstants.SIMULATION_STEPS_PER_SECOND,
+                TimeUnit.MILLISECONDS.toNanos(GameConstants.GAME_TICK_MS));
+    }
+
+    public GameLoop(Board board, InputEventListener listener, long stepNanos, long gravityNanos) {
+        this.board = board;
+        this.listener = listener;
+        clock = new FixedStepClock(stepNanos, GameConstants.MAX_CATCH_UP_STEPS);
+        int[][] matrix = board.getBoardMatrix();
+        snapshots = new TripleBuffer<>(() -> new FrameSnapshot(matrix[0].length, matrix.length));
+        setGravityNanos(gravityNanos);
+    }
+
+    public void setPieceLockListener(PieceLockListener pieceLockListener) {
+        this.pieceLockListener = pieceLockListener;
+    }
+
+    // Called on the loop thread after each publish; keep it cheap, e.g. flag a render.
+    public void setSnapshotListener(Runnable snapshotListener) {
+        this.snapshotListener = snapshotListener;
+    }
+
+    // Takes effect on the next simulation step; progress towards the next row is kept.
+    public void setGravityNanos(long gravityNanos) {
+        if (gravityNanos <= 0) {
+            throw new IllegalArgumentException("Gravity interval must be positive: " + gravityNanos);
+        }
+        this.gravityNanos = gravityNanos;
+    }
+
+    public long getGravityNanos() {
+        return gravityNanos;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    // Producer side of the input ring: call from a single thread, normally the FX thread.
+    public boolean submit(EventType input) {
+        return submit(InputCommand.encode(input, EventSource.USER), System.nanoTime());
+    }
+
+    public boolean submit(int command, long timestampNanos) {
+        return inputs.offer(command, timestampNanos);
+    }
+
+    // The board is only touched by the loop, so a new game is started at the next step rather than on the caller's thread.
+    public void requestNewGame() {
+        newGameRequested = true;
+    }
+
+    // Safe to call from any one reader thread; never blocks the loop.
+    public FrameSnapshot readSnapshot() {
+        return snapshots.read();
+    }
+
+    // Runs every step that is due at nowNanos on the calling thread, e.g. from an AnimationTimer pulse.
+    public int advance(long nowNanos) {
+        int steps = clock.advance(nowNanos);
+        for (int i = 0; i < steps; i++) {
+            step();
+        }
+        if (steps > 0) {
+            publish(nowNanos);
+        }
+        return steps;
+    }
+
+    public void step() {
+        tick++;
+        if (newGameRequested) {
+            newGameRequested = false;
+            listener.createNewGame();
+            resetPiece();
+        }
+        previousPieceY = pieceY;
+        if (paused || board.isGameOver()) {
+            inputs.clear();
+            return;
+        }
+        inputs.drain(applyInput);
+        gravityElapsed += clock.getStepNanos();
+        long gravity = gravityNanos;
+        while (gravityElapsed >= gravity && !board.isGameOver()) {
+            gravityElapsed -= gravity;
+            moveDown(GRAVITY);
+        }
+        pieceY = board.getActiveY();
+    }
+
+    // Every user input reaches the board through here, in ring order, at the start of a step.
+    private void applyInput(int command, long timestampNanos) {
+        if (board.isGameOver()) {
+            return;
+        }
+        MoveEvent event = InputCommand.toMoveEvent(command);
+        switch (event.getEventType()) {
+            case LEFT -> listener.onLeftEvent(event);
+            case RIGHT -> listener.onRightEvent(event);
+            case ROTATE -> listener.onRotateEvent(event);
+            case DOWN -> moveDown(event);
+        }
+    }
+
+    private void moveDown(MoveEvent event) {
+        ClearRow clearRow = listener.onDownEvent(event);
+        if (clearRow != null) {
+            previousPieceY = board.getActiveY();
+            if (pieceLockListener != null) {
+                pieceLockListener.onPieceLocked(clearRow);
+            }
+        }
+    }
+
+    // Call before start(), or from the thread that advances the loop.
+    public void reset() {
+        inputs.clear();
+        resetPiece();
+        clock.reset();
+        tick = 0;
+        publish(System.nanoTime());
+    }
+
+    private void resetPiece() {
+        gravityElapsed = 0;
+        pieceY = board.getActiveY();
+        previousPieceY = pieceY;
+    }
+
+    private void publish(long nowNanos) {
+        snapshots.getWriteBuffer().capture(board, previousPieceY, ++sequence, tick, nowNanos,
+                clock.getStepNanos(), clock.getAlpha());
+        snapshots.publish();
+        if (snapshotListener != null) {
+            snapshotListener.run();
+        }
+    }
+
+    public double getAlpha() {
+        return clock.getAlpha();
+    }
+
+    // Steps actually executed, so listeners called from inside step() see the tick they belong to.
+    public long getTicks() {
+        return tick;
+    }
+
+    public long getStepNanos() {
+        return clock.getStepNanos();
+    }
+
+    public long getDroppedSteps() {
+        return clock.getDroppedSteps();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Returns once the loop thread has finished its last step, so the board can be read safely afterwards.
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            if (thread != Thread.currentThread()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            thread = null;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            advance(System.nanoTime());
+            LockSupport.parkNanos(clock.getNanosUntilNextStep());
+        }
+    }
+}
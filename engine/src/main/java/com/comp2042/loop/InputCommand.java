@@ -0,0 +1,42 @@
+package com.comp2042.loop;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+
+public final class InputCommand {
+
+    private static final int TYPE_BITS = 2;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    public static final int COUNT = TYPES.length << 1;
+
+    private static final MoveEvent[] EVENTS = new MoveEvent[COUNT];
+
+    static {
+        for (int command = 0; command < COUNT; command++) {
+            EVENTS[command] = new MoveEvent(type(command), source(command));
+        }
+    }
+
+    private InputCommand() {
+    }
+
+    public static int encode(EventType type, EventSource source) {
+        return type.ordinal() | source.ordinal() << TYPE_BITS;
+    }
+
+    public static EventType type(int command) {
+        return TYPES[command & TYPE_MASK];
+    }
+
+    public static EventSource source(int command) {
+        return SOURCES[command >>> TYPE_BITS];
+    }
+
+    public static MoveEvent toMoveEvent(int command) {
+        return EVENTS[command];
+    }
+}
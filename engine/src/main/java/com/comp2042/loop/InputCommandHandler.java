@@ -0,0 +1,5 @@
+package com.comp2042.loop;
+
+public interface InputCommandHandler {
+    void onCommand(int command, long timestampNanos);
+}
@@ -0,0 +1,68 @@
+package com.comp2042.loop;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class InputRingBuffer {
+
+    private final int mask;
+    private final int[] commands;
+    private final long[] timestamps;
+    // Each index is written by one side only; the other side reads it with acquire semantics.
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private long cachedHead;
+    private long cachedTail;
+
+    public InputRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        commands = new int[capacity];
+        timestamps = new long[capacity];
+    }
+
+    public int capacity() {
+        return commands.length;
+    }
+
+    // Producer thread only. Returns false and drops the command when the consumer has fallen a full ring behind.
+    public boolean offer(int command, long timestampNanos) {
+        long t = tail.getPlain();
+        if (t - cachedHead >= commands.length) {
+            cachedHead = head.getAcquire();
+            if (t - cachedHead >= commands.length) {
+                return false;
+            }
+        }
+        int slot = (int) t & mask;
+        commands[slot] = command;
+        timestamps[slot] = timestampNanos;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    // Consumer thread only. Hands every command published so far to the handler, oldest first.
+    public int drain(InputCommandHandler handler) {
+        long h = head.getPlain();
+        if (h == cachedTail) {
+            cachedTail = tail.getAcquire();
+            if (h == cachedTail) {
+                return 0;
+            }
+        }
+        long end = cachedTail;
+        for (long i = h; i < end; i++) {
+            int slot = (int) i & mask;
+            handler.onCommand(commands[slot], timestamps[slot]);
+        }
+        head.setRelease(end);
+        return (int) (end - h);
+    }
+
+    // Consumer thread only.
+    public void clear() {
+        cachedTail = tail.getAcquire();
+        head.setRelease(cachedTail);
+    }
+}
@@ -0,0 +1,7 @@
+package com.comp2042.loop;
+
+import com.comp2042.data.ClearRow;
+
+public interface PieceLockListener {
+    void onPieceLocked(ClearRow clearRow);
+}
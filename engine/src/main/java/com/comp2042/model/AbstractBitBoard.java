@@ -0,0 +1,196 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ViewData;
+import com.comp2042.event.BoardListener;
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.ZobristKeys;
+
+// Piece movement against one int occupancy mask per row. Subclasses decide where the masks, colours and
+// row hashes live, and implement locking, line clears and loading a background on top of that storage.
+public abstract class AbstractBitBoard implements Board {
+
+    public static final int MAX_WIDTH = Integer.SIZE - 4;
+
+    protected final int width;
+    protected final int height;
+    protected final int fullRow;
+    protected final BrickRotator brickRotator;
+    protected final BoardEvents events = new BoardEvents();
+    protected int currentX;
+    protected int currentY;
+    protected int lockedTop;
+    protected int lockedBottom = -1;
+
+    private final BrickGenerator brickGenerator;
+    private final Score score;
+    private boolean gameOver;
+
+    protected AbstractBitBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width must not exceed " + MAX_WIDTH + ": " + width);
+        }
+        this.width = width;
+        this.height = height;
+        fullRow = (1 << width) - 1;
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score(events);
+    }
+
+    // Bit j is set when cell (i, j) of the background is occupied.
+    protected abstract int row(int i);
+
+    @Override
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    @Override
+    public long getStateHash() {
+        return getBoardHash()
+                ^ ZobristKeys.pieceKey(brickRotator.getCurrentRotation().getColour(), brickRotator.getCurrentPosition())
+                ^ ZobristKeys.previewKey(0, getPreviewShape().getColour());
+    }
+
+    @Override
+    public void addBoardListener(BoardListener listener) {
+        events.add(listener);
+    }
+
+    @Override
+    public void removeBoardListener(BoardListener listener) {
+        events.remove(listener);
+    }
+
+    protected void setGameOver(boolean gameOver) {
+        if (this.gameOver != gameOver) {
+            this.gameOver = gameOver;
+            events.fireGameOverChanged(gameOver);
+        }
+    }
+
+    private boolean intersect(BrickShape shape, int x, int y) {
+        for (int i = shape.getMinY(); i <= shape.getMaxY(); i++) {
+            int targetY = y + i;
+            if (targetY < 0 || targetY >= height) {
+                return true;
+            }
+            int placed = placeMask(shape.getRowMask(i), x);
+            if (placed == -1 || (row(targetY) & placed) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The shape row shifted to column x, or -1 when part of it would leave the board.
+    protected int placeMask(int mask, int x) {
+        if (x >= 0) {
+            int placed = mask << x;
+            return (placed & ~fullRow) != 0 ? -1 : placed;
+        }
+        if ((mask & ((1 << -x) - 1)) != 0) {
+            return -1;
+        }
+        return mask >>> -x;
+    }
+
+    // Bit i is set for every full row touched by the last merge; the locked range is consumed.
+    protected long findFullRows() {
+        long fullRows = 0L;
+        for (int i = Math.max(lockedTop, 0); i <= lockedBottom; i++) {
+            if (row(i) == fullRow) {
+                fullRows |= 1L << i;
+            }
+        }
+        lockedBottom = -1;
+        return fullRows;
+    }
+
+    private boolean tryMove(int xOffset, int yOffset) {
+        int x = currentX + xOffset;
+        int y = currentY + yOffset;
+        if (intersect(brickRotator.getCurrentRotation(), x, y)) {
+            return false;
+        }
+        currentX = x;
+        currentY = y;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShape = brickRotator.getNextPosition();
+        if (intersect(brickRotator.getRotation(nextShape), currentX, currentY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextShape);
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentX = GameConstants.SPAWN_X;
+        currentY = GameConstants.SPAWN_Y;
+        boolean blocked = intersect(brickRotator.getCurrentRotation(), currentX, currentY);
+        if (blocked) {
+            setGameOver(true);
+        }
+        return blocked;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, getPreviewShape().getMatrix());
+    }
+
+    @Override
+    public BrickShape getActiveShape() {
+        return brickRotator.getCurrentRotation();
+    }
+
+    @Override
+    public int getActiveRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    @Override
+    public int getActiveX() {
+        return currentX;
+    }
+
+    @Override
+    public int getActiveY() {
+        return currentY;
+    }
+
+    @Override
+    public BrickShape getPreviewShape() {
+        return brickGenerator.getNextBrick().getRotationTable().getRotation(0);
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,134 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RandomBrickGenerator;
+import com.comp2042.util.MatrixOperations;
+
+import java.util.Arrays;
+
+public class BitBoard extends AbstractBitBoard {
+
+    // Bit j of rows[i] is set when cell (i, j) is occupied; the colour planes only feed rendering.
+    private final int[] rows;
+    private int[][] colours;
+    private int[][] spareColours;
+
+    private final BoardHash boardHash;
+
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        super(width, height, brickGenerator);
+        rows = new int[height];
+        colours = new int[height][width];
+        spareColours = new int[height][width];
+        boardHash = new BoardHash(height);
+    }
+
+    @Override
+    protected int row(int i) {
+        return rows[i];
+    }
+
+    // Bit j of target[offset + i] is set when cell (i, j) of the background is occupied.
+    public void copyRowMasks(int[] target, int offset) {
+        System.arraycopy(rows, 0, target, offset, height);
+    }
+
+    @Override
+    public long getBoardHash() {
+        return boardHash.get();
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return colours;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentRotation();
+        MatrixOperations.copyInto(colours, spareColours);
+        for (int i = shape.getMinY(); i <= shape.getMaxY(); i++) {
+            rows[currentY + i] |= placeMask(shape.getRowMask(i), currentX);
+        }
+        MatrixOperations.mergeInto(spareColours, shape, currentX, currentY);
+        boardHash.merge(shape, currentX, currentY);
+        lockedTop = currentY + shape.getMinY();
+        lockedBottom = currentY + shape.getMaxY();
+        publishSpareColours();
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        long clearedRows = findFullRows();
+        boardHash.clearRows(clearedRows);
+        int linesRemoved = Long.bitCount(clearedRows);
+        if (linesRemoved == 0) {
+            return ClearRow.NONE;
+        }
+        int lowest = Long.SIZE - 1 - Long.numberOfLeadingZeros(clearedRows);
+        for (int i = lowest + 1; i < height; i++) {
+            System.arraycopy(colours[i], 0, spareColours[i], 0, width);
+        }
+        int target = lowest;
+        for (int i = lowest; i >= 0; i--) {
+            if ((clearedRows & (1L << i)) == 0) {
+                rows[target] = rows[i];
+                System.arraycopy(colours[i], 0, spareColours[target], 0, width);
+                target--;
+            }
+        }
+        for (int i = target; i >= 0; i--) {
+            rows[i] = 0;
+            Arrays.fill(spareColours[i], 0);
+        }
+        publishSpareColours();
+        return new ClearRow(linesRemoved, clearedRows, MatrixOperations.scoreForLines(linesRemoved));
+    }
+
+    // The published plane is never written again until the next swap, so listeners may hold on to it.
+    private void publishSpareColours() {
+        int[][] published = spareColours;
+        spareColours = colours;
+        colours = published;
+        events.fireBoardChanged(colours);
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, 0);
+        lockedBottom = -1;
+        for (int[] row : spareColours) {
+            Arrays.fill(row, 0);
+        }
+        int[][] cleared = spareColours;
+        spareColours = colours;
+        colours = cleared;
+        boardHash.reset();
+        getScore().reset();
+        setGameOver(false);
+        createNewBrick();
+        events.fireBoardChanged(colours);
+    }
+
+    // Loads a saved background without spawning; the caller spawns the next piece with createNewBrick().
+    @Override
+    public void restore(int[][] background, int score) {
+        MatrixOperations.toRowMasks(background, rows);
+        lockedBottom = -1;
+        MatrixOperations.copyInto(background, spareColours);
+        int[][] restored = spareColours;
+        spareColours = colours;
+        colours = restored;
+        boardHash.load(colours);
+        getScore().reset();
+        getScore().add(score);
+        setGameOver(false);
+        events.fireBoardChanged(colours);
+    }
+}
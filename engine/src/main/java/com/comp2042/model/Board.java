@@ -0,0 +1,33 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.ViewData;
+import com.comp2042.event.BoardListener;
+import com.comp2042.model.brick.BrickShape;
+
+public interface Board {
+
+    boolean moveBrickDown();
+    boolean moveBrickLeft();
+    boolean moveBrickRight();
+    boolean rotateLeftBrick();
+    boolean createNewBrick();
+    int[][] getBoardMatrix();
+    ViewData getViewData();
+    BrickShape getActiveShape();
+    int getActiveRotation();
+    int getActiveX();
+    int getActiveY();
+    BrickShape getPreviewShape();
+    void mergeBrickToBackground();
+    ClearRow clearRows();
+    Score getScore();
+    void newGame();
+    void restore(int[][] background, int score);
+    boolean isGameOver();
+    long getBoardHash();
+    long getStateHash();
+
+    void addBoardListener(BoardListener listener);
+    void removeBoardListener(BoardListener listener);
+}
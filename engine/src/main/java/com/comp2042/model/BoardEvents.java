@@ -0,0 +1,41 @@
+package com.comp2042.model;
+
+import com.comp2042.event.BoardListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BoardEvents {
+
+    private final List<BoardListener> listeners = new ArrayList<>();
+
+    void add(BoardListener listener) {
+        listeners.add(listener);
+    }
+
+    void remove(BoardListener listener) {
+        listeners.remove(listener);
+    }
+
+    boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    void fireBoardChanged(int[][] boardMatrix) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBoardChanged(boardMatrix);
+        }
+    }
+
+    void fireScoreChanged(int score) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onScoreChanged(score);
+        }
+    }
+
+    void fireGameOverChanged(boolean gameOver) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameOverChanged(gameOver);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.model;
+
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.util.ZobristKeys;
+
+import java.util.Arrays;
+
+final class BoardHash {
+
+    private final long[] rowSignatures;
+    private long hash;
+
+    BoardHash(int height) {
+        rowSignatures = new long[height];
+    }
+
+    long get() {
+        return hash;
+    }
+
+    void merge(BrickShape shape, int x, int y) {
+        toggleRows(y + shape.getMinY(), y + shape.getMaxY());
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            rowSignatures[y + shape.getCellY(i)] ^= ZobristKeys.cellKey(x + shape.getCellX(i), shape.getColour());
+        }
+        toggleRows(y + shape.getMinY(), y + shape.getMaxY());
+    }
+
+    void clearRows(long clearedRows) {
+        if (clearedRows == 0) {
+            return;
+        }
+        int lowest = Long.SIZE - 1 - Long.numberOfLeadingZeros(clearedRows);
+        toggleRows(0, lowest);
+        int target = lowest;
+        for (int i = lowest; i >= 0; i--) {
+            if ((clearedRows & (1L << i)) == 0) {
+                rowSignatures[target--] = rowSignatures[i];
+            }
+        }
+        Arrays.fill(rowSignatures, 0, target + 1, 0);
+        toggleRows(0, lowest);
+    }
+
+    void load(int[][] matrix) {
+        hash = 0;
+        for (int i = 0; i < rowSignatures.length; i++) {
+            rowSignatures[i] = ZobristKeys.rowSignature(matrix[i]);
+            hash ^= ZobristKeys.rowHash(rowSignatures[i], i);
+        }
+    }
+
+    void reset() {
+        Arrays.fill(rowSignatures, 0);
+        hash = 0;
+    }
+
+    private void toggleRows(int from, int to) {
+        for (int i = Math.max(from, 0); i <= to; i++) {
+            hash ^= ZobristKeys.rowHash(rowSignatures[i], i);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.model;
+
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.NextShapeInfo;
+import com.comp2042.model.brick.RotationTable;
+
+public class BrickRotator {
+
+    private RotationTable rotationTable;
+    private int currentShape = 0;
+
+    public NextShapeInfo getNextShape() {
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(rotationTable.getRotation(nextShape).getMatrix(), nextShape);
+    }
+
+    public int getNextPosition() {
+        return rotationTable.getNextRotation(currentShape);
+    }
+
+    public BrickShape getRotation(int position) {
+        return rotationTable.getRotation(position);
+    }
+
+    public BrickShape getCurrentRotation() {
+        return rotationTable.getRotation(currentShape);
+    }
+
+    public int[][] getCurrentShape() {
+        return getCurrentRotation().getMatrix();
+    }
+
+    public int getCurrentPosition() {
+        return currentShape;
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public void setBrick(Brick brick) {
+        rotationTable = brick.getRotationTable();
+        currentShape = 0;
+    }
+}
@@ -0,0 +1,221 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.util.MatrixOperations;
+import com.comp2042.util.ZobristKeys;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+// BitBoard rules with the background kept in a MemorySegment instead of heap arrays, so large fleets of
+// boards add almost nothing for the GC to trace. Segment layout, in native byte order:
+// one int row mask per row, then one long hash signature per row, then one colour byte per cell.
+// The int[][] matrix is only built when getBoardMatrix() or a board listener asks for it.
+public class OffHeapBoard extends AbstractBitBoard {
+
+    private final long signaturesOffset;
+    private final long cellsOffset;
+    private final MemorySegment memory;
+
+    private long hash;
+
+    // Double buffered like BitBoard's colour planes, and only allocated once something reads the matrix.
+    private int[][] colours;
+    private int[][] spareColours;
+    private boolean coloursStale = true;
+
+    // The caller owns the arena and decides when the board's memory is freed; fleets should share one.
+    public OffHeapBoard(int width, int height, BrickGenerator brickGenerator, Arena arena) {
+        this(width, height, brickGenerator, arena.allocate(byteSize(width, height), Long.BYTES));
+    }
+
+    // storage must hold byteSize(width, height) bytes and be aligned to Long.BYTES; its contents are cleared.
+    public OffHeapBoard(int width, int height, BrickGenerator brickGenerator, MemorySegment storage) {
+        super(width, height, brickGenerator);
+        if (storage.byteSize() < byteSize(width, height)) {
+            throw new IllegalArgumentException("Storage holds " + storage.byteSize() + " bytes, need "
+                    + byteSize(width, height));
+        }
+        signaturesOffset = signaturesOffset(height);
+        cellsOffset = signaturesOffset + (long) height * Long.BYTES;
+        memory = storage.asSlice(0, byteSize(width, height));
+        memory.fill((byte) 0);
+    }
+
+    // Rounded up to Long.BYTES, so boards sliced back to back from one segment all stay aligned.
+    public static long byteSize(int width, int height) {
+        return alignToLong(signaturesOffset(height) + (long) height * Long.BYTES + (long) width * height);
+    }
+
+    private static long signaturesOffset(int height) {
+        return alignToLong((long) height * Integer.BYTES);
+    }
+
+    private static long alignToLong(long bytes) {
+        return (bytes + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    // Read-only view of the row masks: bit j of the int at index i is set when cell (i, j) is occupied.
+    public MemorySegment getRowMasks() {
+        return memory.asSlice(0, (long) height * Integer.BYTES).asReadOnly();
+    }
+
+    // Read-only view of the colours, one byte per cell, row by row.
+    public MemorySegment getCells() {
+        return memory.asSlice(cellsOffset, (long) width * height).asReadOnly();
+    }
+
+    // Bit j of target[offset + i] is set when cell (i, j) of the background is occupied.
+    public void copyRowMasks(int[] target, int offset) {
+        MemorySegment.copy(memory, ValueLayout.JAVA_INT, 0, target, offset, height);
+    }
+
+    @Override
+    public long getBoardHash() {
+        return hash;
+    }
+
+    @Override
+    protected int row(int i) {
+        return memory.getAtIndex(ValueLayout.JAVA_INT, i);
+    }
+
+    private void setRow(int i, int mask) {
+        memory.setAtIndex(ValueLayout.JAVA_INT, i, mask);
+    }
+
+    private long signature(int i) {
+        return memory.get(ValueLayout.JAVA_LONG, signaturesOffset + (long) i * Long.BYTES);
+    }
+
+    private void setSignature(int i, long signature) {
+        memory.set(ValueLayout.JAVA_LONG, signaturesOffset + (long) i * Long.BYTES, signature);
+    }
+
+    private long cellOffset(int i, int j) {
+        return cellsOffset + (long) i * width + j;
+    }
+
+    // Copies the segment out on the first read after a change; the returned plane stays valid until the next one.
+    @Override
+    public int[][] getBoardMatrix() {
+        if (coloursStale) {
+            if (colours == null) {
+                colours = new int[height][width];
+                spareColours = new int[height][width];
+            }
+            for (int i = 0; i < height; i++) {
+                int[] target = spareColours[i];
+                for (int j = 0; j < width; j++) {
+                    target[j] = memory.get(ValueLayout.JAVA_BYTE, cellOffset(i, j));
+                }
+            }
+            int[][] published = spareColours;
+            spareColours = colours;
+            colours = published;
+            coloursStale = false;
+        }
+        return colours;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentRotation();
+        lockedTop = currentY + shape.getMinY();
+        lockedBottom = currentY + shape.getMaxY();
+        toggleRowHashes(lockedTop, lockedBottom);
+        for (int i = shape.getMinY(); i <= shape.getMaxY(); i++) {
+            setRow(currentY + i, row(currentY + i) | placeMask(shape.getRowMask(i), currentX));
+        }
+        int colour = shape.getColour();
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            int i = currentY + shape.getCellY(cell);
+            int j = currentX + shape.getCellX(cell);
+            memory.set(ValueLayout.JAVA_BYTE, cellOffset(i, j), (byte) colour);
+            setSignature(i, signature(i) ^ ZobristKeys.cellKey(j, colour));
+        }
+        toggleRowHashes(lockedTop, lockedBottom);
+        boardChanged();
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        long clearedRows = findFullRows();
+        int linesRemoved = Long.bitCount(clearedRows);
+        if (linesRemoved == 0) {
+            return ClearRow.NONE;
+        }
+        int lowest = Long.SIZE - 1 - Long.numberOfLeadingZeros(clearedRows);
+        toggleRowHashes(0, lowest);
+        int target = lowest;
+        for (int i = lowest; i >= 0; i--) {
+            if ((clearedRows & (1L << i)) == 0) {
+                if (target != i) {
+                    setRow(target, row(i));
+                    setSignature(target, signature(i));
+                    MemorySegment.copy(memory, cellOffset(i, 0), memory, cellOffset(target, 0), width);
+                }
+                target--;
+            }
+        }
+        int emptied = target + 1;
+        memory.asSlice(0, (long) emptied * Integer.BYTES).fill((byte) 0);
+        memory.asSlice(signaturesOffset, (long) emptied * Long.BYTES).fill((byte) 0);
+        memory.asSlice(cellsOffset, (long) emptied * width).fill((byte) 0);
+        toggleRowHashes(0, lowest);
+        boardChanged();
+        return new ClearRow(linesRemoved, clearedRows, MatrixOperations.scoreForLines(linesRemoved));
+    }
+
+    private void toggleRowHashes(int from, int to) {
+        for (int i = Math.max(from, 0); i <= to; i++) {
+            hash ^= ZobristKeys.rowHash(signature(i), i);
+        }
+    }
+
+    private void boardChanged() {
+        coloursStale = true;
+        if (events.hasListeners()) {
+            events.fireBoardChanged(getBoardMatrix());
+        }
+    }
+
+    @Override
+    public void newGame() {
+        memory.fill((byte) 0);
+        lockedBottom = -1;
+        hash = 0;
+        getScore().reset();
+        setGameOver(false);
+        createNewBrick();
+        boardChanged();
+    }
+
+    // Loads a saved background without spawning; the caller spawns the next piece with createNewBrick().
+    @Override
+    public void restore(int[][] background, int score) {
+        hash = 0;
+        for (int i = 0; i < height; i++) {
+            int mask = 0;
+            for (int j = 0; j < width; j++) {
+                int colour = background[i][j];
+                memory.set(ValueLayout.JAVA_BYTE, cellOffset(i, j), (byte) colour);
+                if (colour != 0) {
+                    mask |= 1 << j;
+                }
+            }
+            setRow(i, mask);
+            long signature = ZobristKeys.rowSignature(background[i]);
+            setSignature(i, signature);
+            hash ^= ZobristKeys.rowHash(signature, i);
+        }
+        lockedBottom = -1;
+        getScore().reset();
+        getScore().add(score);
+        setGameOver(false);
+        boardChanged();
+    }
+}
@@ -0,0 +1,29 @@
+package com.comp2042.model;
+
+public final class Score {
+
+    private final BoardEvents events;
+    private int score;
+
+    Score(BoardEvents events) {
+        this.events = events;
+    }
+
+    public int getValue() {
+        return score;
+    }
+
+    public void add(int i){
+        if (i != 0) {
+            score += i;
+            events.fireScoreChanged(score);
+        }
+    }
+
+    public void reset() {
+        if (score != 0) {
+            score = 0;
+            events.fireScoreChanged(score);
+        }
+    }
+}
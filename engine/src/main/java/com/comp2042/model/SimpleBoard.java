@@ -0,0 +1,229 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.data.ViewData;
+import com.comp2042.event.BoardListener;
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.model.brick.RandomBrickGenerator;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.MatrixOperations;
+import com.comp2042.util.ZobristKeys;
+
+public class SimpleBoard implements Board {
+
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private int[][] currentGameMatrix;
+    private int[][] spareGameMatrix;
+    private int lockedTop;
+    private int lockedBottom = -1;
+    private int currentX;
+    private int currentY;
+    private final Score score;
+    
+    private final BoardHash boardHash;
+    private final BoardEvents events = new BoardEvents();
+    private boolean gameOver;
+
+    public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this.width = width;
+        this.height = height;
+        currentGameMatrix = new int[height][width];
+        spareGameMatrix = new int[height][width];
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score(events);
+        boardHash = new BoardHash(height);
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    @Override
+    public long getBoardHash() {
+        return boardHash.get();
+    }
+
+    @Override
+    public long getStateHash() {
+        return boardHash.get()
+                ^ ZobristKeys.pieceKey(brickRotator.getCurrentRotation().getColour(), brickRotator.getCurrentPosition())
+                ^ ZobristKeys.previewKey(0, getPreviewShape().getColour());
+    }
+
+    @Override
+    public void addBoardListener(BoardListener listener) {
+        events.add(listener);
+    }
+
+    @Override
+    public void removeBoardListener(BoardListener listener) {
+        events.remove(listener);
+    }
+
+    private void setGameOver(boolean gameOver) {
+        if (this.gameOver != gameOver) {
+            this.gameOver = gameOver;
+            events.fireGameOverChanged(gameOver);
+        }
+    }
+
+    private boolean tryMove(int xOffset, int yOffset) {
+        int x = currentX + xOffset;
+        int y = currentY + yOffset;
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentRotation(), x, y);
+        if (conflict) {
+            return false;
+        } else {
+            currentX = x;
+            currentY = y;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShape = brickRotator.getNextPosition();
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getRotation(nextShape), currentX, currentY);
+        if (conflict) {
+            return false;
+        } else {
+            brickRotator.setCurrentShape(nextShape);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentX = GameConstants.SPAWN_X;
+        currentY = GameConstants.SPAWN_Y;
+        boolean blocked = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentRotation(), currentX, currentY);
+        if (blocked) {
+            setGameOver(true);
+        }
+        return blocked;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, getPreviewShape().getMatrix());
+    }
+
+    @Override
+    public BrickShape getActiveShape() {
+        return brickRotator.getCurrentRotation();
+    }
+
+    @Override
+    public int getActiveRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    @Override
+    public int getActiveX() {
+        return currentX;
+    }
+
+    @Override
+    public int getActiveY() {
+        return currentY;
+    }
+
+    @Override
+    public BrickShape getPreviewShape() {
+        return brickGenerator.getNextBrick().getRotationTable().getRotation(0);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentRotation();
+        MatrixOperations.copyInto(currentGameMatrix, spareGameMatrix);
+        MatrixOperations.mergeInto(spareGameMatrix, shape, currentX, currentY);
+        boardHash.merge(shape, currentX, currentY);
+        lockedTop = currentY + shape.getMinY();
+        lockedBottom = currentY + shape.getMaxY();
+        publishSpareMatrix();
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        long clearedRows = MatrixOperations.findFullRows(currentGameMatrix, lockedTop, lockedBottom);
+        lockedBottom = -1;
+        if (clearedRows == 0L) {
+            return ClearRow.NONE;
+        }
+        boardHash.clearRows(clearedRows);
+        // The published plane stays untouched; the cleared board is built in the spare one and published once.
+        MatrixOperations.copyWithoutRows(currentGameMatrix, spareGameMatrix, clearedRows);
+        publishSpareMatrix();
+        int linesRemoved = Long.bitCount(clearedRows);
+        return new ClearRow(linesRemoved, clearedRows, MatrixOperations.scoreForLines(linesRemoved));
+    }
+
+    private void publishSpareMatrix() {
+        int[][] published = spareGameMatrix;
+        spareGameMatrix = currentGameMatrix;
+        currentGameMatrix = published;
+        events.fireBoardChanged(currentGameMatrix);
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        currentGameMatrix = new int[height][width];
+        lockedBottom = -1;
+        boardHash.reset();
+        score.reset();
+        setGameOver(false);
+        createNewBrick();
+        events.fireBoardChanged(currentGameMatrix);
+    }
+
+    // Loads a saved background without spawning; the caller spawns the next piece with createNewBrick().
+    @Override
+    public void restore(int[][] background, int score) {
+        currentGameMatrix = MatrixOperations.copy(background);
+        lockedBottom = -1;
+        boardHash.load(currentGameMatrix);
+        this.score.reset();
+        this.score.add(score);
+        setGameOver(false);
+        events.fireBoardChanged(currentGameMatrix);
+    }
+}
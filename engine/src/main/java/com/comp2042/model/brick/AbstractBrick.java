@@ -8,16 +8,33 @@ import java.util.List;
 public abstract class AbstractBrick implements Brick {
     
     protected final List<int[][]> brickMatrix = new ArrayList<>();
+    private final int colour;
     
     protected AbstractBrick() {
         initializeShapes();
+        colour = findColour(brickMatrix.get(0));
     }
     
     protected abstract void initializeShapes();
+
+    private static int findColour(int[][] shape) {
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        return 0;
+    }
     
     @Override
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
-}
 
+    @Override
+    public RotationTable getRotationTable() {
+        return RotationTable.forColour(colour);
+    }
+}
@@ -0,0 +1,39 @@
+package com.comp2042.model.brick;
+
+import java.util.SplittableRandom;
+
+public class BagBrickGenerator extends SeededBrickGenerator {
+
+    private final byte[] bag = new byte[getBrickCount()];
+    private int bagPosition = bag.length;
+
+    public BagBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private BagBrickGenerator(SplittableRandom random) {
+        super(random);
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = (byte) (i + 1);
+        }
+    }
+
+    @Override
+    protected int nextColour() {
+        if (bagPosition == bag.length) {
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            bagPosition = 0;
+        }
+        return bag[bagPosition++];
+    }
+
+    @Override
+    public BagBrickGenerator split() {
+        return new BagBrickGenerator(random.split());
+    }
+}
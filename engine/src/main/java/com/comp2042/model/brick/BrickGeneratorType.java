@@ -0,0 +1,13 @@
+package com.comp2042.model.brick;
+
+public enum BrickGeneratorType {
+    RANDOM, BAG, HISTORY;
+
+    public SeededBrickGenerator create(long seed) {
+        return switch (this) {
+            case RANDOM -> new RandomBrickGenerator(seed);
+            case BAG -> new BagBrickGenerator(seed);
+            case HISTORY -> new HistoryBrickGenerator(seed);
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.comp2042.model.brick;
+
+import com.comp2042.util.MatrixOperations;
+
+public final class BrickShape {
+
+    private final int[][] matrix;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int[] rowMasks;
+    private final int colour;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    BrickShape(int[][] matrix) {
+        this.matrix = MatrixOperations.copy(matrix);
+        int cellCount = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    cellCount++;
+                }
+            }
+        }
+        cellX = new int[cellCount];
+        cellY = new int[cellCount];
+        rowMasks = new int[matrix.length];
+        int found = 0;
+        int foundColour = 0;
+        int lowX = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE;
+        int lowY = Integer.MAX_VALUE;
+        int highY = Integer.MIN_VALUE;
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] == 0) {
+                    continue;
+                }
+                cellX[found] = j;
+                cellY[found] = i;
+                found++;
+                rowMasks[i] |= 1 << j;
+                foundColour = matrix[i][j];
+                lowX = Math.min(lowX, j);
+                highX = Math.max(highX, j);
+                lowY = Math.min(lowY, i);
+                highY = Math.max(highY, i);
+            }
+        }
+        colour = foundColour;
+        minX = lowX;
+        maxX = highX;
+        minY = lowY;
+        maxY = highY;
+    }
+
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    public int getCellX(int cell) {
+        return cellX[cell];
+    }
+
+    public int getCellY(int cell) {
+        return cellY[cell];
+    }
+
+    public int getRowCount() {
+        return rowMasks.length;
+    }
+
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    public int getColour() {
+        return colour;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public int[][] getMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+}
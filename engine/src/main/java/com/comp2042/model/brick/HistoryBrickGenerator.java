@@ -0,0 +1,60 @@
+package com.comp2042.model.brick;
+
+import java.util.SplittableRandom;
+
+public class HistoryBrickGenerator extends SeededBrickGenerator {
+
+    public static final int DEFAULT_HISTORY_SIZE = 4;
+    public static final int DEFAULT_REROLLS = 4;
+
+    private static final int S_COLOUR = 5;
+    private static final int Z_COLOUR = 7;
+
+    private final int[] history;
+    private final int rerolls;
+    private int historyStart;
+
+    public HistoryBrickGenerator(long seed) {
+        this(seed, DEFAULT_HISTORY_SIZE, DEFAULT_REROLLS);
+    }
+
+    public HistoryBrickGenerator(long seed, int historySize, int rerolls) {
+        this(new SplittableRandom(seed), historySize, rerolls);
+    }
+
+    private HistoryBrickGenerator(SplittableRandom random, int historySize, int rerolls) {
+        super(random);
+        this.history = new int[historySize];
+        this.rerolls = rerolls;
+        for (int i = 0; i < historySize; i++) {
+            history[i] = i % 2 == 0 ? Z_COLOUR : S_COLOUR;
+        }
+    }
+
+    @Override
+    protected int nextColour() {
+        int colour = 1 + random.nextInt(getBrickCount());
+        for (int roll = 0; roll < rerolls && inHistory(colour); roll++) {
+            colour = 1 + random.nextInt(getBrickCount());
+        }
+        if (history.length > 0) {
+            history[historyStart] = colour;
+            historyStart = (historyStart + 1) % history.length;
+        }
+        return colour;
+    }
+
+    private boolean inHistory(int colour) {
+        for (int entry : history) {
+            if (entry == colour) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public HistoryBrickGenerator split() {
+        return new HistoryBrickGenerator(random.split(), history.length, rerolls);
+    }
+}
@@ -0,0 +1,29 @@
+package com.comp2042.model.brick;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RandomBrickGenerator extends SeededBrickGenerator {
+
+    public RandomBrickGenerator() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomBrickGenerator(SplittableRandom random) {
+        super(random);
+    }
+
+    @Override
+    protected int nextColour() {
+        return 1 + random.nextInt(getBrickCount());
+    }
+
+    @Override
+    public RandomBrickGenerator split() {
+        return new RandomBrickGenerator(random.split());
+    }
+}
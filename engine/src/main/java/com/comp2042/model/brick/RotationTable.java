@@ -0,0 +1,53 @@
+package com.comp2042.model.brick;
+
+import java.util.List;
+
+public final class RotationTable {
+
+    private static final RotationTable[] TABLES = build(
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick());
+
+    private final BrickShape[] rotations;
+    private final int colour;
+
+    private RotationTable(List<int[][]> shapes) {
+        rotations = new BrickShape[shapes.size()];
+        for (int i = 0; i < rotations.length; i++) {
+            rotations[i] = new BrickShape(shapes.get(i));
+        }
+        colour = rotations[0].getColour();
+    }
+
+    private static RotationTable[] build(AbstractBrick... bricks) {
+        RotationTable[] tables = new RotationTable[bricks.length + 1];
+        for (AbstractBrick brick : bricks) {
+            RotationTable table = new RotationTable(brick.brickMatrix);
+            tables[table.colour] = table;
+        }
+        return tables;
+    }
+
+    public static RotationTable forColour(int colour) {
+        return TABLES[colour];
+    }
+
+    public static int getBrickCount() {
+        return TABLES.length - 1;
+    }
+
+    public int getColour() {
+        return colour;
+    }
+
+    public int getRotationCount() {
+        return rotations.length;
+    }
+
+    public BrickShape getRotation(int rotation) {
+        return rotations[rotation];
+    }
+
+    public int getNextRotation(int rotation) {
+        return (rotation + 1) % rotations.length;
+    }
+}
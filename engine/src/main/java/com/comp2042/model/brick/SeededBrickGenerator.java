@@ -0,0 +1,82 @@
+package com.comp2042.model.brick;
+
+import java.util.SplittableRandom;
+
+public abstract class SeededBrickGenerator implements BrickGenerator {
+
+    private static final int BUFFER_SIZE = 64;
+    private static final Brick[] BRICKS = bricksByColour(
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick());
+
+    protected final SplittableRandom random;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long drawCount;
+
+    protected SeededBrickGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    private static Brick[] bricksByColour(Brick... bricks) {
+        Brick[] byColour = new Brick[bricks.length + 1];
+        for (Brick brick : bricks) {
+            byColour[brick.getRotationTable().getColour()] = brick;
+        }
+        return byColour;
+    }
+
+    public static Brick brickForColour(int colour) {
+        return BRICKS[colour];
+    }
+
+    protected static int getBrickCount() {
+        return BRICKS.length - 1;
+    }
+
+    protected abstract int nextColour();
+
+    public abstract SeededBrickGenerator split();
+
+    @Override
+    public Brick getBrick() {
+        ensureBuffered(2);
+        drawCount++;
+        return BRICKS[buffer[position++]];
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        ensureBuffered(1);
+        return BRICKS[buffer[position]];
+    }
+
+    public int nextBrickColour() {
+        ensureBuffered(2);
+        drawCount++;
+        return buffer[position++];
+    }
+
+    public void drawColours(byte[] target, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            target[offset + i] = (byte) nextBrickColour();
+        }
+    }
+
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    private void ensureBuffered(int count) {
+        if (limit - position >= count) {
+            return;
+        }
+        int remaining = limit - position;
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        for (int i = remaining; i < BUFFER_SIZE; i++) {
+            buffer[i] = (byte) nextColour();
+        }
+        position = 0;
+        limit = BUFFER_SIZE;
+    }
+}
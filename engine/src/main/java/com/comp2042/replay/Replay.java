@@ -0,0 +1,176 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.brick.BrickGeneratorType;
+
+import java.nio.ByteBuffer;
+
+// A parsed recording: header, footer and checkpoint directory. The token stream is only read by cursors.
+public final class Replay {
+
+    private static final BrickGeneratorType[] GENERATOR_TYPES = BrickGeneratorType.values();
+
+    private final ByteBuffer recording;
+    private final BrickGeneratorType generatorType;
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final long firstDraw;
+    private final long tickNanos;
+    private final int bodyOffset;
+    private final long events;
+    private final long pieces;
+    private final int score;
+    private final long boardHash;
+    private final long[] checkpointTicks;
+    private final long[] checkpointEvents;
+    private final long[] checkpointPieces;
+    private final int[] checkpointBodyOffsets;
+    private final int[] checkpointStateOffsets;
+
+    private Replay(ByteBuffer recording) {
+        this.recording = recording;
+        ReplayReader in = new ReplayReader(recording);
+        if (in.readInt() != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a replay recording");
+        }
+        int version = in.readByte();
+        if (version != ReplayFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version: " + version);
+        }
+        int typeIndex = in.readByte();
+        if (typeIndex >= GENERATOR_TYPES.length) {
+            throw new IllegalArgumentException("Unknown brick generator type: " + typeIndex);
+        }
+        generatorType = GENERATOR_TYPES[typeIndex];
+        seed = in.readLong();
+        width = (int) in.readVarLong();
+        height = (int) in.readVarLong();
+        firstDraw = in.readVarLong();
+        tickNanos = in.readVarLong();
+        bodyOffset = in.position();
+
+        in.seek(in.length() - Integer.BYTES);
+        in.seek(in.readInt());
+        events = in.readVarLong();
+        pieces = in.readVarLong();
+        score = (int) in.readVarLong();
+        boardHash = in.readLong();
+        int count = (int) in.readVarLong();
+        checkpointTicks = new long[count];
+        checkpointEvents = new long[count];
+        checkpointPieces = new long[count];
+        checkpointBodyOffsets = new int[count];
+        checkpointStateOffsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            checkpointTicks[i] = in.readVarLong();
+            checkpointEvents[i] = in.readVarLong();
+            checkpointPieces[i] = in.readVarLong();
+            checkpointBodyOffsets[i] = bodyOffset + (int) in.readVarLong();
+            checkpointStateOffsets[i] = (int) in.readVarLong();
+        }
+        int statesOffset = in.position();
+        for (int i = 0; i < count; i++) {
+            checkpointStateOffsets[i] += statesOffset;
+        }
+    }
+
+    public static Replay parse(byte[] recording) {
+        return new Replay(ByteBuffer.wrap(recording));
+    }
+
+    // Reads in place, without copying; recording must not change while the replay or its cursors are in use.
+    public static Replay parse(ByteBuffer recording) {
+        return new Replay(recording.slice());
+    }
+
+    public ReplayCursor newCursor() {
+        return new ReplayCursor(this);
+    }
+
+    // Index of the last checkpoint at or before tick, or -1 when the game start is the closest point.
+    public int checkpointBefore(long tick) {
+        int low = 0;
+        int high = checkpointTicks.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (checkpointTicks[mid] <= tick) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    ByteBuffer getRecording() {
+        return recording;
+    }
+
+    int getBodyOffset() {
+        return bodyOffset;
+    }
+
+    int getCheckpointBodyOffset(int checkpoint) {
+        return checkpointBodyOffsets[checkpoint];
+    }
+
+    int getCheckpointStateOffset(int checkpoint) {
+        return checkpointStateOffsets[checkpoint];
+    }
+
+    public BrickGeneratorType getGeneratorType() {
+        return generatorType;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getFirstDraw() {
+        return firstDraw;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    public int getCheckpointCount() {
+        return checkpointTicks.length;
+    }
+
+    public long getCheckpointTick(int checkpoint) {
+        return checkpointTicks[checkpoint];
+    }
+
+    public long getCheckpointEvent(int checkpoint) {
+        return checkpointEvents[checkpoint];
+    }
+
+    public long getCheckpointPieces(int checkpoint) {
+        return checkpointPieces[checkpoint];
+    }
+}
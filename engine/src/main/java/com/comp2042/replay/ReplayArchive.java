@@ -0,0 +1,348 @@
+package com.comp2042.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only store: recordings go back to back into segment files, and index.dat holds one fixed-width
+// entry per game (segment, offset, length, score, pieces, CRC32), so the game id is just the entry number.
+public final class ReplayArchive implements Consumer<byte[]>, Closeable {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+
+    private static final String INDEX_FILE = "index.dat";
+    private static final String SEGMENT_FORMAT = "segment-%05d.dat";
+    private static final int ENTRY_BYTES = 24;
+    private static final int SEGMENT = 0;
+    private static final int OFFSET = 4;
+    private static final int LENGTH = 8;
+    private static final int SCORE = 12;
+    private static final int PIECES = 16;
+    private static final int CHECKSUM = 20;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final FileChannel index;
+    private final FileLock indexLock;
+    private final List<FileChannel> segments = new ArrayList<>();
+    private final List<MappedByteBuffer> segmentMaps = new ArrayList<>();
+    private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_BYTES);
+    private final CRC32 crc = new CRC32();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-archive-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private MappedByteBuffer indexMap;
+    private long games;
+    private int segment;
+    private long segmentPosition;
+    private boolean closed;
+
+    public ReplayArchive(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public ReplayArchive(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            index = FileChannel.open(directory.resolve(INDEX_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException e) {
+            writer.shutdown();
+            throw e;
+        }
+        indexLock = lockIndex();
+        try {
+            for (int i = 0; Files.exists(segmentPath(i)); i++) {
+                segmentChannel(i);
+            }
+            recover();
+        } catch (IOException | RuntimeException e) {
+            // Nothing else can reach this instance, so the writer, channels and lock are released here.
+            writer.shutdown();
+            try {
+                closeFiles();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    // recover() truncates whatever it does not recognise, so a second process must never open the same archive.
+    private FileLock lockIndex() throws IOException {
+        FileLock lock;
+        try {
+            lock = index.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            index.close();
+            writer.shutdown();
+            throw new IOException("Replay archive is already in use: " + directory);
+        }
+        return lock;
+    }
+
+    // A crash can leave a torn index entry or a payload without an entry; drop both so appends continue cleanly.
+    private void recover() throws IOException {
+        games = index.size() / ENTRY_BYTES;
+        while (games > 0 && !isIntact(games - 1)) {
+            games--;
+        }
+        index.truncate(games * ENTRY_BYTES);
+        if (games > 0) {
+            segment = readEntryInt(games - 1, SEGMENT);
+            segmentPosition = (long) readEntryInt(games - 1, OFFSET) + readEntryInt(games - 1, LENGTH);
+        }
+        for (int i = segment; i < segments.size(); i++) {
+            segments.get(i).truncate(i == segment ? segmentPosition : 0);
+        }
+    }
+
+    private boolean isIntact(long gameId) throws IOException {
+        int entrySegment = readEntryInt(gameId, SEGMENT);
+        long offset = readEntryInt(gameId, OFFSET);
+        int length = readEntryInt(gameId, LENGTH);
+        if (entrySegment < 0 || entrySegment >= segments.size() || offset < 0 || length <= 0
+                || offset + length > segments.get(entrySegment).size()) {
+            return false;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(segments.get(entrySegment), payload, offset);
+        crc.reset();
+        crc.update(payload.flip());
+        return (int) crc.getValue() == readEntryInt(gameId, CHECKSUM);
+    }
+
+    private int readEntryInt(long gameId, int field) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(Integer.BYTES);
+        readFully(index, value, gameId * ENTRY_BYTES + field);
+        return value.getInt(0);
+    }
+
+    // Returns the new game id.
+    public synchronized long append(byte[] recording) throws IOException {
+        ensureOpen();
+        Replay replay = Replay.parse(recording);
+        if (segmentPosition > 0 && segmentPosition + recording.length > segmentBytes) {
+            segment++;
+            segmentPosition = 0;
+        }
+        writeFully(segmentChannel(segment), ByteBuffer.wrap(recording), segmentPosition);
+        crc.reset();
+        crc.update(recording);
+        entry.clear();
+        entry.putInt(segment)
+                .putInt((int) segmentPosition)
+                .putInt(recording.length)
+                .putInt(replay.getScore())
+                .putInt((int) replay.getPieces())
+                .putInt((int) crc.getValue())
+                .flip();
+        // Payload first, entry second: a crash in between leaves an orphaned payload that recover() trims.
+        writeFully(index, entry, games * ENTRY_BYTES);
+        segmentPosition += recording.length;
+        return games++;
+    }
+
+    // Saves a finished game from the recorder off the game thread; a failed write loses that replay but never the game.
+    @Override
+    public void accept(byte[] recording) {
+        writer.execute(() -> {
+            try {
+                append(recording);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Could not archive replay of " + recording.length + " bytes: " + e.getMessage());
+            }
+        });
+    }
+
+    public synchronized long getGameCount() {
+        return games;
+    }
+
+    public synchronized int getScore(long gameId) throws IOException {
+        return indexInt(gameId, SCORE);
+    }
+
+    public synchronized int getPieces(long gameId) throws IOException {
+        return indexInt(gameId, PIECES);
+    }
+
+    public synchronized int getLength(long gameId) throws IOException {
+        return indexInt(gameId, LENGTH);
+    }
+
+    // A read-only view straight into the mapped segment; pass it to Replay.parse to re-simulate without copying.
+    public synchronized ByteBuffer getRecording(long gameId) throws IOException {
+        int entrySegment = indexInt(gameId, SEGMENT);
+        int offset = indexInt(gameId, OFFSET);
+        int length = indexInt(gameId, LENGTH);
+        MappedByteBuffer map = segmentMaps.get(entrySegment);
+        if (map == null || map.capacity() < offset + length) {
+            FileChannel channel = segments.get(entrySegment);
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            segmentMaps.set(entrySegment, map);
+        }
+        return map.slice(offset, length).asReadOnlyBuffer();
+    }
+
+    // Game ids of the count best scores, best first, earlier games first on ties; reads only the index.
+    public synchronized long[] topScores(int count) throws IOException {
+        ByteBuffer entries = indexMap();
+        int limit = (int) Math.min(count, games);
+        long[] heap = new long[limit];
+        int size = 0;
+        for (long id = 0; id < games && limit > 0; id++) {
+            long key = (long) entries.getInt((int) (id * ENTRY_BYTES) + SCORE) << 32 | (0xFFFFFFFFL - id);
+            if (size < limit) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, size);
+            }
+        }
+        Arrays.sort(heap);
+        long[] ids = new long[limit];
+        for (int i = 0; i < limit; i++) {
+            ids[i] = 0xFFFFFFFFL - (heap[limit - 1 - i] & 0xFFFFFFFFL);
+        }
+        return ids;
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        long key = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= key) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+
+    private int indexInt(long gameId, int field) throws IOException {
+        if (gameId < 0 || gameId >= games) {
+            throw new IndexOutOfBoundsException("No game " + gameId + " in an archive of " + games);
+        }
+        return indexMap().getInt((int) (gameId * ENTRY_BYTES) + field);
+    }
+
+    // The index only grows, so the mapping is refreshed whenever it no longer covers every entry.
+    private MappedByteBuffer indexMap() throws IOException {
+        ensureOpen();
+        long size = games * ENTRY_BYTES;
+        if (indexMap == null || indexMap.capacity() < size) {
+            indexMap = index.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return indexMap;
+    }
+
+    private FileChannel segmentChannel(int number) throws IOException {
+        while (segments.size() <= number) {
+            segments.add(FileChannel.open(segmentPath(segments.size()),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segmentMaps.add(null);
+        }
+        return segments.get(number);
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format(SEGMENT_FORMAT, number));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + channel);
+            }
+            position += read;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Replay archive is closed: " + directory);
+        }
+    }
+
+    // Waits for recordings already handed to accept() to reach the archive before closing it.
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeFiles();
+    }
+
+    private synchronized void closeFiles() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        indexMap = null;
+        segmentMaps.clear();
+        indexLock.release();
+        index.close();
+        for (FileChannel channel : segments) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.comp2042.replay;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.loop.InputCommand;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.brick.SeededBrickGenerator;
+
+import java.util.Arrays;
+
+// Replays a recording event by event. Seeking loads the closest checkpoint, so getBoard() may return a new board.
+public final class ReplayCursor {
+
+    private final Replay replay;
+    private final ReplayReader in;
+    private final int[][] background;
+
+    private Board board;
+    private GameController controller;
+    private long tick;
+    private long eventIndex;
+    private long pieces;
+    private int command;
+    private long delta;
+    private long remaining;
+    private boolean finished;
+
+    ReplayCursor(Replay replay) {
+        this.replay = replay;
+        in = new ReplayReader(replay.getRecording());
+        background = new int[replay.getHeight()][replay.getWidth()];
+        load(-1);
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getEventIndex() {
+        return eventIndex;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public boolean isFinished() {
+        return !fetch();
+    }
+
+    // Applies the next recorded event; returns false once the recording is exhausted.
+    public boolean step() {
+        if (!fetch()) {
+            return false;
+        }
+        remaining--;
+        tick += delta;
+        eventIndex++;
+        MoveEvent event = InputCommand.toMoveEvent(command);
+        switch (event.getEventType()) {
+            case LEFT -> controller.onLeftEvent(event);
+            case RIGHT -> controller.onRightEvent(event);
+            case ROTATE -> controller.onRotateEvent(event);
+            case DOWN -> {
+                if (controller.onDownEvent(event) != null) {
+                    pieces++;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Applies every event stamped at or before target, never moving backwards.
+    public void advanceTo(long target) {
+        while (fetch() && tick + delta <= target) {
+            step();
+        }
+    }
+
+    public void runToEnd() {
+        while (fetch()) {
+            step();
+        }
+    }
+
+    // Positions the cursor after every event stamped at or before target, from here or from the closest checkpoint.
+    public void seek(long target) {
+        int checkpoint = replay.checkpointBefore(target);
+        long checkpointEvent = checkpoint < 0 ? 0 : replay.getCheckpointEvent(checkpoint);
+        if (target < tick || checkpointEvent > eventIndex) {
+            load(checkpoint);
+        }
+        advanceTo(target);
+    }
+
+    private void load(int checkpoint) {
+        SeededBrickGenerator generator = replay.getGeneratorType().create(replay.getSeed());
+        long draws;
+        int score = 0;
+        if (checkpoint < 0) {
+            draws = replay.getFirstDraw();
+            tick = 0;
+            eventIndex = 0;
+            pieces = 0;
+        } else {
+            in.seek(replay.getCheckpointStateOffset(checkpoint));
+            draws = in.readVarLong();
+            score = (int) in.readVarLong();
+            int firstRow = (int) in.readVarLong();
+            for (int i = 0; i < background.length; i++) {
+                if (i < firstRow) {
+                    Arrays.fill(background[i], 0);
+                } else {
+                    in.readRow(background[i]);
+                }
+            }
+            tick = replay.getCheckpointTick(checkpoint);
+            eventIndex = replay.getCheckpointEvent(checkpoint);
+            pieces = replay.getCheckpointPieces(checkpoint);
+        }
+        // The controller draws the piece in play itself, so skip every draw before it.
+        for (long draw = 1; draw < draws; draw++) {
+            generator.nextBrickColour();
+        }
+        board = replay.getWidth() <= BitBoard.MAX_WIDTH
+                ? new BitBoard(replay.getWidth(), replay.getHeight(), generator)
+                : new SimpleBoard(replay.getWidth(), replay.getHeight(), generator);
+        if (checkpoint >= 0) {
+            board.restore(background, score);
+        }
+        controller = new GameController(board);
+        in.seek(checkpoint < 0 ? replay.getBodyOffset() : replay.getCheckpointBodyOffset(checkpoint));
+        command = -1;
+        remaining = 0;
+        finished = false;
+    }
+
+    // Decodes the next token if the current one is used up, without applying anything.
+    private boolean fetch() {
+        if (remaining > 0) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        long token = in.readVarLong();
+        int code = (int) (token & ReplayFormat.CODE_MASK);
+        if (code == ReplayFormat.END) {
+            finished = true;
+            return false;
+        } else if (code == ReplayFormat.REPEAT && command >= 0 && token >>> ReplayFormat.CODE_BITS > 0) {
+            remaining = token >>> ReplayFormat.CODE_BITS;
+        } else if (code < InputCommand.COUNT) {
+            command = code;
+            delta = token >>> ReplayFormat.CODE_BITS;
+            remaining = 1;
+        } else {
+            throw new IllegalArgumentException("Unexpected replay token " + code + " at offset " + in.position());
+        }
+        return true;
+    }
+}
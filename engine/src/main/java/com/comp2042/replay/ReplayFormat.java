@@ -0,0 +1,21 @@
+package com.comp2042.replay;
+
+// Header: magic, version, generator type, seed, width, height, first draw, tick nanos.
+// Body: varint tokens of (delta ticks << CODE_BITS | code), ended by END.
+// Footer: event count, piece count, final score, board hash, then the checkpoint directory
+// (tick, event, piece, body offset, state offset) and the checkpoint states.
+// The last four bytes hold the footer offset, so a reader can jump straight to the directory.
+final class ReplayFormat {
+
+    static final int MAGIC = 0x54525031;
+    static final int VERSION = 2;
+
+    static final int CODE_BITS = 4;
+    static final int CODE_MASK = (1 << CODE_BITS) - 1;
+    // Codes below InputCommand.COUNT are commands; REPEAT replays the previous (delta, command) pair count times.
+    static final int REPEAT = 8;
+    static final int END = 9;
+
+    private ReplayFormat() {
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.Board;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Re-simulates a recording without a clock or a UI and compares the outcome with the recorded checksums.
+public final class ReplayPlayer {
+
+    private ReplayPlayer() {
+    }
+
+    public static ReplayResult play(byte[] recording) {
+        return play(Replay.parse(recording));
+    }
+
+    public static ReplayResult play(ByteBuffer recording) {
+        return play(Replay.parse(recording));
+    }
+
+    private static ReplayResult play(Replay replay) {
+        ReplayCursor cursor = replay.newCursor();
+        cursor.runToEnd();
+        Board board = cursor.getBoard();
+        return new ReplayResult(replay.getGeneratorType(), replay.getSeed(), cursor.getEventIndex(),
+                cursor.getPieces(), cursor.getTick(), replay.getTickNanos(), replay.getScore(),
+                board.getScore().getValue(), replay.getBoardHash(), board.getBoardHash(),
+                cursor.getEventIndex() == replay.getEvents());
+    }
+
+    // Usage: ReplayPlayer <archive directory> [top count]. Verifies every archived game, then lists the best scores.
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args[0]);
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        try (ReplayArchive archive = new ReplayArchive(directory)) {
+            long games = archive.getGameCount();
+            long bytes = 0;
+            long gameNanos = 0;
+            long failures = 0;
+            long start = System.nanoTime();
+            for (long id = 0; id < games; id++) {
+                ByteBuffer recording = archive.getRecording(id);
+                bytes += recording.remaining();
+                ReplayResult result = play(recording);
+                gameNanos += result.getDurationNanos();
+                if (!result.isVerified()) {
+                    failures++;
+                    System.out.println("game " + id + ": " + result);
+                }
+            }
+            long playNanos = System.nanoTime() - start;
+            System.out.printf("games=%d bytes=%d failures=%d speedup=%.0fx%n",
+                    games, bytes, failures, playNanos == 0 ? 0.0 : (double) gameNanos / playNanos);
+            for (long id : archive.topScores(top)) {
+                System.out.printf("game %d: score=%d pieces=%d%n", id, archive.getScore(id), archive.getPieces(id));
+            }
+            if (failures > 0) {
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.comp2042.replay;
+
+import java.nio.ByteBuffer;
+
+// Reads with absolute gets, so the buffer may be a slice of a mapped archive segment shared with other readers.
+final class ReplayReader {
+
+    private final ByteBuffer bytes;
+    private final int limit;
+    private int position;
+
+    ReplayReader(ByteBuffer bytes) {
+        this.bytes = bytes;
+        this.limit = bytes.limit();
+    }
+
+    int readByte() {
+        require(1);
+        return bytes.get(position++) & 0xFF;
+    }
+
+    int readInt() {
+        require(Integer.BYTES);
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = value << Byte.SIZE | (bytes.get(position++) & 0xFF);
+        }
+        return value;
+    }
+
+    long readLong() {
+        require(Long.BYTES);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << Byte.SIZE | (bytes.get(position++) & 0xFF);
+        }
+        return value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    void readRow(int[] row) {
+        long mask = readVarLong();
+        int packed = 0;
+        boolean high = false;
+        for (int i = 0; i < row.length; i++) {
+            if ((mask & (1L << i)) == 0) {
+                row[i] = 0;
+            } else if (high) {
+                row[i] = packed >>> 4;
+                high = false;
+            } else {
+                packed = readByte();
+                row[i] = packed & 0xF;
+                high = true;
+            }
+        }
+    }
+
+    void seek(int position) {
+        if (position < 0 || position > limit) {
+            throw new IllegalArgumentException("Replay offset out of range: " + position);
+        }
+        this.position = position;
+    }
+
+    int length() {
+        return limit;
+    }
+
+    int position() {
+        return position;
+    }
+
+    private void require(int count) {
+        if (position + count > limit) {
+            throw new IllegalArgumentException("Replay recording is truncated at offset " + position);
+        }
+    }
+}
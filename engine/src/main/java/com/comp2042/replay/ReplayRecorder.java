@@ -0,0 +1,218 @@
+package com.comp2042.replay;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.event.InputEventListener;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.loop.InputCommand;
+import com.comp2042.model.Board;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.util.GameConstants;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+// Sits between the game loop and the controller and hands one finished recording per game to the sink.
+public final class ReplayRecorder implements InputEventListener {
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    private final InputEventListener delegate;
+    private final Board board;
+    private final BrickGeneratorType generatorType;
+    private final long seed;
+    private final SeededBrickGenerator generator;
+    private final Consumer<byte[]> sink;
+    private final ReplayWriter body = new ReplayWriter(INITIAL_CAPACITY);
+    private final ReplayWriter checkpointIndex = new ReplayWriter(INITIAL_CAPACITY);
+    private final ReplayWriter checkpointStates = new ReplayWriter(INITIAL_CAPACITY);
+    private final ReplayWriter out = new ReplayWriter(INITIAL_CAPACITY);
+    private final int checkpointPieces;
+
+    private LongSupplier clock = () -> 0;
+    private long tickNanos;
+    private boolean recording;
+    private long firstDraw;
+    private long lastTime;
+    private long elapsed;
+    private long events;
+    private long pieces;
+    private int checkpoints;
+    private int lastCommand;
+    private long lastDelta;
+    private long repeats;
+
+    // generator must be the one feeding board, created by generatorType from seed, with the current game already spawned.
+    public ReplayRecorder(InputEventListener delegate, Board board, BrickGeneratorType generatorType, long seed,
+                          SeededBrickGenerator generator, Consumer<byte[]> sink) {
+        this(delegate, board, generatorType, seed, generator, sink, GameConstants.REPLAY_CHECKPOINT_PIECES);
+    }
+
+    public ReplayRecorder(InputEventListener delegate, Board board, BrickGeneratorType generatorType, long seed,
+                          SeededBrickGenerator generator, Consumer<byte[]> sink, int checkpointPieces) {
+        if (checkpointPieces <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointPieces);
+        }
+        this.checkpointPieces = checkpointPieces;
+        this.delegate = delegate;
+        this.board = board;
+        this.generatorType = generatorType;
+        this.seed = seed;
+        this.generator = generator;
+        this.sink = sink;
+        start();
+    }
+
+    // Timestamps are taken from clock, whose unit is tickNanos long; 0 means the unit is unknown.
+    public void setClock(LongSupplier clock, long tickNanos) {
+        this.clock = clock;
+        this.tickNanos = tickNanos;
+    }
+
+    @Override
+    public ClearRow onDownEvent(MoveEvent event) {
+        record(event);
+        ClearRow clearRow = delegate.onDownEvent(event);
+        if (clearRow != null && recording) {
+            pieces++;
+        }
+        if (board.isGameOver()) {
+            finish();
+        } else if (clearRow != null && recording && pieces % checkpointPieces == 0) {
+            checkpoint();
+        }
+        return clearRow;
+    }
+
+    @Override
+    public boolean onLeftEvent(MoveEvent event) {
+        record(event);
+        return delegate.onLeftEvent(event);
+    }
+
+    @Override
+    public boolean onRightEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRightEvent(event);
+    }
+
+    @Override
+    public boolean onRotateEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRotateEvent(event);
+    }
+
+    @Override
+    public void createNewGame() {
+        finish();
+        delegate.createNewGame();
+        start();
+    }
+
+    // Closes the current recording early, e.g. on shutdown; it still verifies because playback stops at the same event.
+    public void finish() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        flushRepeats();
+        out.reset();
+        out.writeInt(ReplayFormat.MAGIC);
+        out.writeByte(ReplayFormat.VERSION);
+        out.writeByte(generatorType.ordinal());
+        out.writeLong(seed);
+        int[][] matrix = board.getBoardMatrix();
+        out.writeVarLong(matrix[0].length);
+        out.writeVarLong(matrix.length);
+        out.writeVarLong(firstDraw);
+        out.writeVarLong(tickNanos);
+        out.write(body);
+        out.writeVarLong(ReplayFormat.END);
+        int footerOffset = out.size();
+        out.writeVarLong(events);
+        out.writeVarLong(pieces);
+        out.writeVarLong(board.getScore().getValue());
+        out.writeLong(board.getBoardHash());
+        out.writeVarLong(checkpoints);
+        out.write(checkpointIndex);
+        out.write(checkpointStates);
+        out.writeInt(footerOffset);
+        sink.accept(out.toByteArray());
+    }
+
+    private void start() {
+        recording = true;
+        firstDraw = generator.getDrawCount();
+        body.reset();
+        checkpointIndex.reset();
+        checkpointStates.reset();
+        checkpoints = 0;
+        events = 0;
+        pieces = 0;
+        lastCommand = -1;
+        repeats = 0;
+        lastTime = Long.MIN_VALUE;
+        elapsed = 0;
+    }
+
+    private void record(MoveEvent event) {
+        if (!recording) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long delta = lastTime == Long.MIN_VALUE ? 0 : Math.max(0, now - lastTime);
+        lastTime = now;
+        elapsed += delta;
+        int command = InputCommand.encode(event.getEventType(), event.getEventSource());
+        events++;
+        // Gravity produces long runs of identical (delta, command) pairs that collapse into one REPEAT token.
+        if (command == lastCommand && delta == lastDelta) {
+            repeats++;
+            return;
+        }
+        flushRepeats();
+        body.writeVarLong(delta << ReplayFormat.CODE_BITS | command);
+        lastCommand = command;
+        lastDelta = delta;
+    }
+
+    // Taken right after a lock, while the new piece sits at its spawn point, so a seek can respawn it from the generator.
+    private void checkpoint() {
+        flushRepeats();
+        // The next token must stand alone: a cursor starting here has no previous pair to repeat.
+        lastCommand = -1;
+        checkpointIndex.writeVarLong(elapsed);
+        checkpointIndex.writeVarLong(events);
+        checkpointIndex.writeVarLong(pieces);
+        checkpointIndex.writeVarLong(body.size());
+        checkpointIndex.writeVarLong(checkpointStates.size());
+        checkpointStates.writeVarLong(generator.getDrawCount());
+        checkpointStates.writeVarLong(board.getScore().getValue());
+        int[][] matrix = board.getBoardMatrix();
+        int firstRow = 0;
+        while (firstRow < matrix.length && isEmpty(matrix[firstRow])) {
+            firstRow++;
+        }
+        checkpointStates.writeVarLong(firstRow);
+        for (int i = firstRow; i < matrix.length; i++) {
+            checkpointStates.writeRow(matrix[i]);
+        }
+        checkpoints++;
+    }
+
+    private static boolean isEmpty(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void flushRepeats() {
+        if (repeats > 0) {
+            body.writeVarLong(repeats << ReplayFormat.CODE_BITS | ReplayFormat.REPEAT);
+            repeats = 0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.brick.BrickGeneratorType;
+
+public final class ReplayResult {
+
+    private final BrickGeneratorType generatorType;
+    private final long seed;
+    private final long events;
+    private final long pieces;
+    private final long durationTicks;
+    private final long tickNanos;
+    private final int recordedScore;
+    private final int score;
+    private final long recordedBoardHash;
+    private final long boardHash;
+    private final boolean eventCountMatches;
+
+    ReplayResult(BrickGeneratorType generatorType, long seed, long events, long pieces, long durationTicks,
+                 long tickNanos, int recordedScore, int score, long recordedBoardHash, long boardHash,
+                 boolean eventCountMatches) {
+        this.generatorType = generatorType;
+        this.seed = seed;
+        this.events = events;
+        this.pieces = pieces;
+        this.durationTicks = durationTicks;
+        this.tickNanos = tickNanos;
+        this.recordedScore = recordedScore;
+        this.score = score;
+        this.recordedBoardHash = recordedBoardHash;
+        this.boardHash = boardHash;
+        this.eventCountMatches = eventCountMatches;
+    }
+
+    public BrickGeneratorType getGeneratorType() {
+        return generatorType;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public long getDurationTicks() {
+        return durationTicks;
+    }
+
+    public long getDurationNanos() {
+        return durationTicks * tickNanos;
+    }
+
+    public int getRecordedScore() {
+        return recordedScore;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getRecordedBoardHash() {
+        return recordedBoardHash;
+    }
+
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    public boolean isVerified() {
+        return eventCountMatches && score == recordedScore && boardHash == recordedBoardHash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s seed=%016x events=%d pieces=%d score=%d/%d board=%016x/%016x %s",
+                generatorType, seed, events, pieces, score, recordedScore, boardHash, recordedBoardHash,
+                isVerified() ? "OK" : "MISMATCH");
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042.replay;
+
+import java.util.Arrays;
+
+final class ReplayWriter {
+
+    private byte[] bytes;
+    private int size;
+
+    ReplayWriter(int initialCapacity) {
+        bytes = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    // Unsigned LEB128: seven bits per byte, high bit set while more bytes follow.
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    // Occupancy mask, then one nibble per occupied cell; an empty row costs a single byte.
+    void writeRow(int[] row) {
+        long mask = 0;
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] != 0) {
+                mask |= 1L << i;
+            }
+        }
+        writeVarLong(mask);
+        int pending = -1;
+        for (int colour : row) {
+            if (colour == 0) {
+                continue;
+            }
+            if (pending < 0) {
+                pending = colour & 0xF;
+            } else {
+                writeByte(pending | (colour & 0xF) << 4);
+                pending = -1;
+            }
+        }
+        if (pending >= 0) {
+            writeByte(pending);
+        }
+    }
+
+    void write(ReplayWriter other) {
+        ensureCapacity(other.size);
+        System.arraycopy(other.bytes, 0, bytes, size, other.size);
+        size += other.size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + extra));
+        }
+    }
+}
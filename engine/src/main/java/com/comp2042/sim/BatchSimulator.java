@@ -0,0 +1,153 @@
+package com.comp2042.sim;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.data.ClearRow;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.SplitMix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class BatchSimulator {
+
+    private static final int GAMES_PER_TASK = 16;
+
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+
+    private final BoardFactory boardFactory;
+    private final BrickGeneratorType generatorType;
+    private final Supplier<InputPolicy> policyFactory;
+    private final int maxPieces;
+
+    public BatchSimulator(BoardFactory boardFactory, BrickGeneratorType generatorType,
+                          Supplier<InputPolicy> policyFactory, int maxPieces) {
+        this.boardFactory = boardFactory;
+        this.generatorType = generatorType;
+        this.policyFactory = policyFactory;
+        this.maxPieces = maxPieces;
+    }
+
+    public SimulationStats run(int games, long baseSeed, ForkJoinPool pool) {
+        Totals totals = new Totals();
+        long start = System.nanoTime();
+        pool.invoke(new GameRangeTask(totals, baseSeed, 0, games));
+        long elapsed = System.nanoTime() - start;
+        return new SimulationStats(totals.games.sum(), totals.score.sum(), totals.maxScore.get(),
+                totals.lines.sum(), totals.pieces.sum(), totals.gameNanos.sum(), elapsed, pool.getParallelism());
+    }
+
+    public static long gameSeed(long baseSeed, int game) {
+        return SplitMix.mix(baseSeed + (game + 1) * SplitMix.GOLDEN_GAMMA);
+    }
+
+    private static final class Totals {
+        private final LongAdder games = new LongAdder();
+        private final LongAdder score = new LongAdder();
+        private final LongAccumulator maxScore = new LongAccumulator(Math::max, 0);
+        private final LongAdder lines = new LongAdder();
+        private final LongAdder pieces = new LongAdder();
+        private final LongAdder gameNanos = new LongAdder();
+    }
+
+    private final class GameRangeTask extends RecursiveAction {
+
+        private final Totals totals;
+        private final long baseSeed;
+        private final int from;
+        private final int to;
+
+        private long lines;
+        private long pieces;
+
+        private GameRangeTask(Totals totals, long baseSeed, int from, int to) {
+            this.totals = totals;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new GameRangeTask(totals, baseSeed, from, middle),
+                        new GameRangeTask(totals, baseSeed, middle, to));
+                return;
+            }
+            InputPolicy policy = policyFactory.get();
+            long score = 0;
+            long maxScore = 0;
+            long gameNanos = 0;
+            for (int game = from; game < to; game++) {
+                long seed = gameSeed(baseSeed, game);
+                long gameStart = System.nanoTime();
+                int gameScore = play(policy, seed);
+                gameNanos += System.nanoTime() - gameStart;
+                score += gameScore;
+                maxScore = Math.max(maxScore, gameScore);
+            }
+            totals.games.add(to - from);
+            totals.score.add(score);
+            totals.maxScore.accumulate(maxScore);
+            totals.lines.add(lines);
+            totals.pieces.add(pieces);
+            totals.gameNanos.add(gameNanos);
+        }
+
+        private int play(InputPolicy policy, long seed) {
+            Board board = boardFactory.create(generatorType.create(seed));
+            GameController controller = new GameController(board);
+            policy.startGame(SplitMix.mix(seed));
+            int piecesPlaced = 0;
+            while (!board.isGameOver() && piecesPlaced < maxPieces) {
+                EventType input = policy.nextInput(board);
+                switch (input) {
+                    case LEFT -> controller.onLeftEvent(LEFT);
+                    case RIGHT -> controller.onRightEvent(RIGHT);
+                    case ROTATE -> controller.onRotateEvent(ROTATE);
+                    case DOWN -> {
+                        ClearRow clearRow = controller.onDownEvent(DOWN);
+                        if (clearRow != null) {
+                            piecesPlaced++;
+                            lines += clearRow.getLinesRemoved();
+                            policy.onPieceLocked();
+                        }
+                    }
+                }
+            }
+            pieces += piecesPlaced;
+            return board.getScore().getValue();
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int maxPieces = args.length > 3 ? Integer.parseInt(args[3]) : 1_000;
+        BrickGeneratorType generatorType = args.length > 4 ? BrickGeneratorType.valueOf(args[4]) : BrickGeneratorType.BAG;
+
+        BatchSimulator simulator = new BatchSimulator(
+                generator -> new BitBoard(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, generator),
+                generatorType, RandomInputPolicy::new, maxPieces);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            simulator.run(Math.max(games / 10, 1), seed, pool);
+            System.out.println(simulator.run(games, seed, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
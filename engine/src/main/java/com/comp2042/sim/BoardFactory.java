@@ -0,0 +1,9 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.brick.BrickGenerator;
+
+public interface BoardFactory {
+
+    Board create(BrickGenerator brickGenerator);
+}
@@ -0,0 +1,11 @@
+package com.comp2042.sim;
+
+import com.comp2042.event.EventType;
+import com.comp2042.model.Board;
+
+public interface InputPolicy {
+
+    void startGame(long seed);
+    EventType nextInput(Board board);
+    void onPieceLocked();
+}
@@ -0,0 +1,50 @@
+package com.comp2042.sim;
+
+import com.comp2042.event.EventType;
+import com.comp2042.model.Board;
+
+import java.util.SplittableRandom;
+
+public class RandomInputPolicy implements InputPolicy {
+
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_SHIFT = 5;
+
+    private SplittableRandom random = new SplittableRandom();
+    private int rotationsLeft;
+    private int shiftsLeft;
+    private boolean planned;
+
+    @Override
+    public void startGame(long seed) {
+        random = new SplittableRandom(seed);
+        planned = false;
+    }
+
+    @Override
+    public EventType nextInput(Board board) {
+        if (!planned) {
+            rotationsLeft = random.nextInt(MAX_ROTATIONS);
+            shiftsLeft = random.nextInt(-MAX_SHIFT, MAX_SHIFT + 1);
+            planned = true;
+        }
+        if (rotationsLeft > 0) {
+            rotationsLeft--;
+            return EventType.ROTATE;
+        }
+        if (shiftsLeft < 0) {
+            shiftsLeft++;
+            return EventType.LEFT;
+        }
+        if (shiftsLeft > 0) {
+            shiftsLeft--;
+            return EventType.RIGHT;
+        }
+        return EventType.DOWN;
+    }
+
+    @Override
+    public void onPieceLocked() {
+        planned = false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.sim;
+
+public final class SimulationStats {
+
+    private final long games;
+    private final long totalScore;
+    private final long maxScore;
+    private final long totalLines;
+    private final long totalPieces;
+    private final long totalGameNanos;
+    private final long elapsedNanos;
+    private final int parallelism;
+
+    public SimulationStats(long games, long totalScore, long maxScore, long totalLines, long totalPieces,
+                           long totalGameNanos, long elapsedNanos, int parallelism) {
+        this.games = games;
+        this.totalScore = totalScore;
+        this.maxScore = maxScore;
+        this.totalLines = totalLines;
+        this.totalPieces = totalPieces;
+        this.totalGameNanos = totalGameNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    public long getMaxScore() {
+        return maxScore;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    public long getTotalGameNanos() {
+        return totalGameNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getPiecesPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalPieces * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        double perGame = Math.max(games, 1);
+        return String.format("games=%d threads=%d elapsed=%.3fs games/sec=%.1f pieces/sec=%.0f "
+                        + "avgScore=%.1f maxScore=%d avgLines=%.2f avgPieces=%.1f avgGameMs=%.3f",
+                games, parallelism, elapsedNanos / 1e9, getGamesPerSecond(), getPiecesPerSecond(),
+                totalScore / perGame, maxScore, totalLines / perGame, totalPieces / perGame,
+                totalGameNanos / perGame / 1e6);
+    }
+}
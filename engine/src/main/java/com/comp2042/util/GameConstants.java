@@ -5,6 +5,10 @@ public final class GameConstants {
     public static final int BOARD_HEIGHT = 25;
     public static final int BOARD_WIDTH = 10;
     public static final int GAME_TICK_MS = 400;
+    public static final int SIMULATION_STEPS_PER_SECOND = 60;
+    public static final int MAX_CATCH_UP_STEPS = 30;
+    public static final int INPUT_BUFFER_CAPACITY = 256;
+    public static final int REPLAY_CHECKPOINT_PIECES = 100;
     public static final int BRICK_SIZE = 30; 
     public static final int BRICK_PANEL_Y_OFFSET = -63; 
     public static final int BRICK_ARC_SIZE = 12; 
@@ -16,6 +20,7 @@ public final class GameConstants {
     public static final int SPAWN_X = 4;
     public static final int SPAWN_Y = 0;
     public static final int HIDDEN_BUFFER_ROWS = 2;
+    public static final int PREVIEW_SIZE = 4;
     public static final int MANUAL_DOWN_SCORE = 1;
     
     private GameConstants() {}
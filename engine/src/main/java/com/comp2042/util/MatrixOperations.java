@@ -0,0 +1,142 @@
+package com.comp2042.util;
+
+import com.comp2042.model.brick.BrickShape;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MatrixOperations {
+
+    private MatrixOperations(){
+    }
+
+    public static boolean intersect(final int[][] matrix, final int[][] brick, int x, int y) {
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                int targetX = x + j;
+                int targetY = y + i;
+                if (brick[i][j] != 0 && (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean intersect(final int[][] matrix, final BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellX(i);
+            int targetY = y + shape.getCellY(i);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
+        boolean returnValue = true;
+        if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
+            returnValue = false;
+        }
+        return returnValue;
+    }
+
+    public static int[][] copy(int[][] original) {
+        int[][] myInt = new int[original.length][];
+        for (int i = 0; i < original.length; i++) {
+            int[] aMatrix = original[i];
+            int aLength = aMatrix.length;
+            myInt[i] = new int[aLength];
+            System.arraycopy(aMatrix, 0, myInt[i], 0, aLength);
+        }
+        return myInt;
+    }
+
+    public static int[][] merge(int[][] filledFields, int[][] brick, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                int targetX = x + j;
+                int targetY = y + i;
+                if (brick[i][j] != 0) {
+                    copy[targetY][targetX] = brick[i][j];
+                }
+            }
+        }
+        return copy;
+    }
+
+    public static void copyInto(int[][] source, int[][] target) {
+        for (int i = 0; i < source.length; i++) {
+            System.arraycopy(source[i], 0, target[i], 0, source[i].length);
+        }
+    }
+
+    public static void mergeInto(int[][] filledFields, BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            filledFields[y + shape.getCellY(i)][x + shape.getCellX(i)] = shape.getColour();
+        }
+    }
+
+    // Bit i of the result is set when row i, between fromRow and toRow inclusive, is full.
+    public static long findFullRows(int[][] matrix, int fromRow, int toRow) {
+        int first = Math.max(fromRow, 0);
+        int last = Math.min(toRow, matrix.length - 1);
+        long fullRows = 0L;
+        for (int i = first; i <= last; i++) {
+            if (isFullRow(matrix[i])) {
+                fullRows |= 1L << i;
+            }
+        }
+        return fullRows;
+    }
+
+    // Writes source into target with the given rows removed and the rows above them shifted down.
+    public static void copyWithoutRows(int[][] source, int[][] target, long removedRows) {
+        int lowest = Long.SIZE - 1 - Long.numberOfLeadingZeros(removedRows);
+        for (int i = lowest + 1; i < source.length; i++) {
+            System.arraycopy(source[i], 0, target[i], 0, source[i].length);
+        }
+        int write = lowest;
+        for (int read = lowest; read >= 0; read--) {
+            if ((removedRows & (1L << read)) == 0) {
+                System.arraycopy(source[read], 0, target[write], 0, source[read].length);
+                write--;
+            }
+        }
+        for (int i = write; i >= 0; i--) {
+            Arrays.fill(target[i], 0);
+        }
+    }
+
+    private static boolean isFullRow(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void toRowMasks(int[][] matrix, int[] target) {
+        for (int i = 0; i < matrix.length; i++) {
+            int mask = 0;
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    mask |= 1 << j;
+                }
+            }
+            target[i] = mask;
+        }
+    }
+
+    public static int scoreForLines(int linesRemoved) {
+        return GameConstants.SCORE_PER_LINE * linesRemoved * linesRemoved;
+    }
+
+    public static List<int[][]> deepCopyList(List<int[][]> list){
+        return list.stream().map(MatrixOperations::copy).collect(Collectors.toList());
+    }
+}
+
@@ -0,0 +1,16 @@
+package com.comp2042.util;
+
+// The SplitMix64 increment and finaliser, shared by everything that derives keys or seeds from small integers.
+public final class SplitMix {
+
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SplitMix() {
+    }
+
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.util;
+
+public final class ZobristKeys {
+
+    private static final long CELL_SEED = 0x6A09E667F3BCC908L;
+    private static final long ROW_SEED = 0xBB67AE8584CAA73BL;
+    private static final long PIECE_SEED = 0x3C6EF372FE94F82BL;
+    private static final long PREVIEW_SEED = 0xA54FF53A5F1D36F1L;
+
+    private ZobristKeys() {
+    }
+
+    // Keys are derived from their coordinates instead of a random table, so hashes are stable across runs and board sizes.
+    public static long cellKey(int column, int colour) {
+        return SplitMix.mix(CELL_SEED + (((long) column << 32) + colour) * SplitMix.GOLDEN_GAMMA);
+    }
+
+    // A row signature is the xor of its cell keys; placing it at a row index lets a line clear move it with one mix.
+    public static long rowHash(long signature, int row) {
+        return signature == 0 ? 0 : SplitMix.mix(signature + (ROW_SEED + row) * SplitMix.GOLDEN_GAMMA);
+    }
+
+    public static long pieceKey(int colour, int rotation) {
+        return SplitMix.mix(PIECE_SEED + (((long) colour << 32) + rotation) * SplitMix.GOLDEN_GAMMA);
+    }
+
+    public static long previewKey(int depth, int colour) {
+        return SplitMix.mix(PREVIEW_SEED + (((long) depth << 32) + colour) * SplitMix.GOLDEN_GAMMA);
+    }
+
+    public static long rowSignature(int[] row) {
+        long signature = 0;
+        for (int j = 0; j < row.length; j++) {
+            if (row[j] != 0) {
+                signature ^= cellKey(j, row[j]);
+            }
+        }
+        return signature;
+    }
+
+    public static long matrixHash(int[][] matrix) {
+        long hash = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            hash ^= rowHash(rowSignature(matrix[i]), i);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,182 @@
+package com.comp2042.bot;
+
+import com.comp2042.util.GameConstants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FeatureExtractorTest {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    @Test
+    void emptyBoardHasOnlyWallAndFloorTransitions() {
+        assertFeatures(new String[]{
+                "....",
+                "....",
+                "....",
+                "...."}, new int[]{0, 0, 0, 0}, 0, 0, 0, 0, 8, 4, 0);
+    }
+
+    // A hole under column 2, and wells in column 1 and against the right wall, both on row 2.
+    @Test
+    void countsHolesAndWellsOnARaggedStack() {
+        assertFeatures(new String[]{
+                "....",
+                "#...",
+                "#.#.",
+                "##.#"}, new int[]{3, 1, 2, 1}, 7, 3, 4, 1, 10, 6, 2);
+    }
+
+    // Each cell of a two deep well counts, and the full bottom row adds no transitions.
+    @Test
+    void countsEveryCellOfADeepWell() {
+        assertFeatures(new String[]{
+                "....",
+                "###.",
+                "###.",
+                "####"}, new int[]{3, 3, 3, 1}, 10, 3, 2, 0, 6, 4, 2);
+    }
+
+    // The overhang in column 1 covers two holes; both top corners are wells between a wall and the overhang.
+    @Test
+    void countsHolesUnderAnOverhang() {
+        assertFeatures(new String[]{
+                ".#.",
+                "...",
+                "#.#"}, new int[]{1, 3, 1}, 5, 3, 4, 2, 8, 5, 2);
+    }
+
+    @Test
+    void vectorMatchesScalarOnRandomBoards() {
+        assertSameFeatures(1_000, GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, 1L);
+    }
+
+    @Test
+    void vectorMatchesScalarOnOddSizesAndPartialLaneGroups() {
+        assertSameFeatures(37, 7, 13, 2L);
+        assertSameFeatures(3, BoardBatch.MAX_WIDTH, BoardBatch.MAX_HEIGHT, 3L);
+    }
+
+    @Test
+    void createPicksTheVectorExtractorWhenTheModuleIsLoaded() {
+        assumeTrue(ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent());
+        assertEquals(VectorFeatureExtractor.isSupported() ? VectorFeatureExtractor.class : ScalarFeatureExtractor.class,
+                FeatureExtractor.create().getClass());
+    }
+
+    // Runs create() in a JVM started with this one's options minus the vector module.
+    @Test
+    void createFallsBackToScalarWithoutTheModule() throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        List<String> options = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        for (int i = 0; i < options.size(); i++) {
+            String option = options.get(i);
+            if (option.equals("--add-modules") && i + 1 < options.size() && options.get(i + 1).equals(VECTOR_MODULE)) {
+                i++;
+            } else if (!option.equals("--add-modules=" + VECTOR_MODULE)) {
+                command.add(option);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(PrintExtractor.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        assertEquals(0, process.waitFor(), output);
+        assertEquals(ScalarFeatureExtractor.class.getName(), output);
+    }
+
+    // Rows are listed top down, '#' for a filled cell; both the scalar and the selected extractor must agree.
+    private static void assertFeatures(String[] rows, int[] heights, int aggregateHeight, int maxHeight, int bumpiness,
+                                       int holes, int rowTransitions, int columnTransitions, int wells) {
+        int width = heights.length;
+        int[][] matrix = new int[rows.length][width];
+        for (int i = 0; i < rows.length; i++) {
+            for (int j = 0; j < width; j++) {
+                matrix[i][j] = rows[i].charAt(j) == '#' ? 1 : 0;
+            }
+        }
+        BoardBatch boards = new BoardBatch(1, width, rows.length);
+        boards.add(matrix);
+        for (FeatureExtractor extractor : List.of(new ScalarFeatureExtractor(), FeatureExtractor.create())) {
+            BoardFeatures features = new BoardFeatures(1, width);
+            extractor.extract(boards, features);
+            String name = extractor.getClass().getSimpleName();
+            for (int column = 0; column < width; column++) {
+                assertEquals(heights[column], features.getHeight(0, column), name + " height of column " + column);
+            }
+            assertEquals(aggregateHeight, features.getAggregateHeight(0), name + " aggregate height");
+            assertEquals(maxHeight, features.getMaxHeight(0), name + " max height");
+            assertEquals(bumpiness, features.getBumpiness(0), name + " bumpiness");
+            assertEquals(holes, features.getHoles(0), name + " holes");
+            assertEquals(rowTransitions, features.getRowTransitions(0), name + " row transitions");
+            assertEquals(columnTransitions, features.getColumnTransitions(0), name + " column transitions");
+            assertEquals(wells, features.getWells(0), name + " wells");
+        }
+    }
+
+    private static void assertSameFeatures(int count, int width, int height, long seed) {
+        FeatureExtractor vector = FeatureExtractor.create();
+        assumeTrue(vector.getClass() != ScalarFeatureExtractor.class, "Vector API not available");
+        SplittableRandom random = new SplittableRandom(seed);
+        BoardBatch boards = new BoardBatch(count, width, height);
+        for (int board = 0; board < count; board++) {
+            boards.add(randomBoard(random, width, height));
+        }
+        BoardFeatures expected = new BoardFeatures(count, width);
+        BoardFeatures actual = new BoardFeatures(count, width);
+        new ScalarFeatureExtractor().extract(boards, expected);
+        vector.extract(boards, actual);
+        for (int board = 0; board < count; board++) {
+            for (int column = 0; column < width; column++) {
+                assertEquals(expected.getHeight(board, column), actual.getHeight(board, column),
+                        "height of column " + column + " on board " + board);
+            }
+            assertEquals(expected.getAggregateHeight(board), actual.getAggregateHeight(board), "aggregate height " + board);
+            assertEquals(expected.getMaxHeight(board), actual.getMaxHeight(board), "max height " + board);
+            assertEquals(expected.getBumpiness(board), actual.getBumpiness(board), "bumpiness " + board);
+            assertEquals(expected.getHoles(board), actual.getHoles(board), "holes " + board);
+            assertEquals(expected.getRowTransitions(board), actual.getRowTransitions(board), "row transitions " + board);
+            assertEquals(expected.getColumnTransitions(board), actual.getColumnTransitions(board),
+                    "column transitions " + board);
+            assertEquals(expected.getWells(board), actual.getWells(board), "wells " + board);
+        }
+    }
+
+    // Mostly stacks with ragged tops and holes, plus some uniformly random, empty and full boards.
+    private static int[][] randomBoard(SplittableRandom random, int width, int height) {
+        int[][] matrix = new int[height][width];
+        int kind = random.nextInt(10);
+        if (kind == 0) {
+            return matrix;
+        }
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                boolean filled = switch (kind) {
+                    case 1 -> true;
+                    case 2, 3 -> random.nextInt(3) == 0;
+                    default -> i >= height - 1 - random.nextInt(height) / kind && random.nextInt(8) != 0;
+                };
+                matrix[i][j] = filled ? 1 + random.nextInt(7) : 0;
+            }
+        }
+        return matrix;
+    }
+
+    static final class PrintExtractor {
+
+        public static void main(String[] args) {
+            System.out.println(FeatureExtractor.create().getClass().getName());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.RotationTable;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlacementGeneratorTest {
+
+    private static final int WIDTH = GameConstants.BOARD_WIDTH;
+    private static final int HEIGHT = 12;
+    private static final int T_COLOUR = 6;
+    private static final int I_COLOUR = 1;
+
+    @Test
+    void matchesBruteForceOnEmptyBoard() {
+        for (int colour = 1; colour <= RotationTable.getBrickCount(); colour++) {
+            assertMatchesBruteForce(new int[HEIGHT][WIDTH], colour);
+        }
+    }
+
+    @Test
+    void matchesBruteForceOnRandomStacks() {
+        SplittableRandom random = new SplittableRandom(9L);
+        for (int board = 0; board < 20; board++) {
+            int[][] matrix = randomStack(random);
+            for (int colour = 1; colour <= RotationTable.getBrickCount(); colour++) {
+                assertMatchesBruteForce(matrix, colour);
+            }
+        }
+    }
+
+    // Columns 0-4 are roofed over at row 10, so a piece lying on the floor below the roof has to slide in.
+    @Test
+    void findsATuckUnderAnOverhang() {
+        int[][] matrix = new int[HEIGHT][WIDTH];
+        for (int j = 0; j <= 4; j++) {
+            matrix[10][j] = 1;
+        }
+        assertMatchesBruteForce(matrix, I_COLOUR);
+        byte[] path = pathTo(matrix, I_COLOUR, 0, 0, HEIGHT - 2);
+        assertEquals(PlacementGenerator.LEFT, path[path.length - 1], "the last move slides under the roof");
+    }
+
+    // A T slot whose left side is covered at row 9: the flat-side-up T cannot drop in, only rotate in.
+    @Test
+    void findsASpinUnderAnOverhang() {
+        int[][] matrix = new int[HEIGHT][WIDTH];
+        for (int j = 0; j < WIDTH; j++) {
+            matrix[11][j] = j == 4 ? 0 : 1;
+            matrix[10][j] = j >= 3 && j <= 5 ? 0 : 1;
+        }
+        matrix[9][3] = 1;
+        assertMatchesBruteForce(matrix, T_COLOUR);
+        byte[] path = pathTo(matrix, T_COLOUR, 0, 3, 9);
+        assertEquals(PlacementGenerator.ROTATE, path[path.length - 1], "the last move rotates into the slot");
+    }
+
+    @Test
+    void rejectsPlacementsFromAnEarlierSearch() {
+        PlacementGenerator generator = new PlacementGenerator(WIDTH, HEIGHT);
+        Placements first = new Placements(generator.getMaxPlacements());
+        Placements second = new Placements(generator.getMaxPlacements());
+        byte[] path = new byte[generator.getMaxPlacements()];
+        RotationTable table = RotationTable.forColour(T_COLOUR);
+        generator.generate(new int[HEIGHT][WIDTH], table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, first);
+        generator.generate(new int[HEIGHT][WIDTH], table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, second);
+        assertThrows(IllegalArgumentException.class, () -> generator.getPath(first, 0, path));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPath(second, second.size(), path));
+        PlacementGenerator other = new PlacementGenerator(WIDTH, HEIGHT);
+        assertThrows(IllegalArgumentException.class, () -> other.getPath(second, 0, path));
+    }
+
+    // Compares both generate overloads with a search over real board moves, then replays every path on a board.
+    private static void assertMatchesBruteForce(int[][] matrix, int colour) {
+        RotationTable table = RotationTable.forColour(colour);
+        PlacementGenerator generator = new PlacementGenerator(WIDTH, HEIGHT);
+        Placements placements = new Placements(generator.getMaxPlacements());
+        int[] rows = new int[HEIGHT];
+        MatrixOperations.toRowMasks(matrix, rows);
+        generator.generate(rows, table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, placements);
+        TreeSet<Long> fromRows = placementSet(placements);
+        generator.generate(matrix, table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, placements);
+        TreeSet<Long> generated = placementSet(placements);
+        assertEquals(fromRows, generated, "row mask and matrix input disagree for colour " + colour);
+        assertEquals(bruteForce(matrix, colour), generated, "placements for colour " + colour);
+
+        Board board = newBoard(colour);
+        byte[] path = new byte[generator.getMaxPlacements()];
+        for (int i = 0; i < placements.size(); i++) {
+            int length = generator.getPath(placements, i, path);
+            replay(board, matrix, path, length);
+            assertEquals(placements.getRotation(i), board.getActiveRotation(), "rotation after path " + i);
+            assertEquals(placements.getX(i), board.getActiveX(), "x after path " + i);
+            assertEquals(placements.getY(i), board.getActiveY(), "y after path " + i);
+            assertFalse(board.moveBrickDown(), "path " + i + " ends resting");
+        }
+    }
+
+    // Breadth-first over every state the board itself lets the piece reach, replaying the path to each state.
+    private static TreeSet<Long> bruteForce(int[][] matrix, int colour) {
+        Board board = newBoard(colour);
+        replay(board, matrix, new byte[0], 0);
+        Map<Long, byte[]> paths = new HashMap<>();
+        ArrayDeque<Long> queue = new ArrayDeque<>();
+        long start = key(board.getActiveRotation(), board.getActiveX(), board.getActiveY());
+        paths.put(start, new byte[0]);
+        queue.add(start);
+        TreeSet<Long> resting = new TreeSet<>();
+        byte[] moves = {PlacementGenerator.DOWN, PlacementGenerator.LEFT, PlacementGenerator.RIGHT,
+                PlacementGenerator.ROTATE};
+        while (!queue.isEmpty()) {
+            long state = queue.poll();
+            byte[] path = paths.get(state);
+            for (byte move : moves) {
+                replay(board, matrix, path, path.length);
+                boolean moved = apply(board, move);
+                if (move == PlacementGenerator.DOWN && !moved) {
+                    resting.add(state);
+                }
+                long next = key(board.getActiveRotation(), board.getActiveX(), board.getActiveY());
+                if (moved && !paths.containsKey(next)) {
+                    byte[] extended = Arrays.copyOf(path, path.length + 1);
+                    extended[path.length] = move;
+                    paths.put(next, extended);
+                    queue.add(next);
+                }
+            }
+        }
+        return resting;
+    }
+
+    private static byte[] pathTo(int[][] matrix, int colour, int rotation, int x, int y) {
+        RotationTable table = RotationTable.forColour(colour);
+        PlacementGenerator generator = new PlacementGenerator(WIDTH, HEIGHT);
+        Placements placements = new Placements(generator.getMaxPlacements());
+        generator.generate(matrix, table, 0, GameConstants.SPAWN_X, GameConstants.SPAWN_Y, placements);
+        for (int i = 0; i < placements.size(); i++) {
+            if (placements.getRotation(i) == rotation && placements.getX(i) == x && placements.getY(i) == y) {
+                byte[] path = new byte[generator.getMaxPlacements()];
+                return Arrays.copyOf(path, generator.getPath(placements, i, path));
+            }
+        }
+        throw new AssertionError("no placement at rotation " + rotation + ", x " + x + ", y " + y);
+    }
+
+    private static void replay(Board board, int[][] matrix, byte[] path, int length) {
+        board.restore(matrix, 0);
+        assertFalse(board.createNewBrick(), "spawn is blocked");
+        for (int i = 0; i < length; i++) {
+            assertTrue(apply(board, path[i]), "move " + i + " of the path is blocked");
+        }
+    }
+
+    private static boolean apply(Board board, byte move) {
+        if (move == PlacementGenerator.DOWN) {
+            return board.moveBrickDown();
+        }
+        if (move == PlacementGenerator.LEFT) {
+            return board.moveBrickLeft();
+        }
+        if (move == PlacementGenerator.RIGHT) {
+            return board.moveBrickRight();
+        }
+        return board.rotateLeftBrick();
+    }
+
+    private static TreeSet<Long> placementSet(Placements placements) {
+        TreeSet<Long> set = new TreeSet<>();
+        for (int i = 0; i < placements.size(); i++) {
+            set.add(key(placements.getRotation(i), placements.getX(i), placements.getY(i)));
+        }
+        return set;
+    }
+
+    private static long key(int rotation, int x, int y) {
+        return ((long) rotation << 40) | ((long) (x + 16) << 20) | y;
+    }
+
+    private static Board newBoard(int colour) {
+        Brick brick = SeededBrickGenerator.brickForColour(colour);
+        return new BitBoard(WIDTH, HEIGHT, new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return brick;
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return brick;
+            }
+        });
+    }
+
+    // Ragged stacks with holes and overhangs; the top rows stay clear so the piece can spawn.
+    private static int[][] randomStack(SplittableRandom random) {
+        int[][] matrix = new int[HEIGHT][WIDTH];
+        for (int j = 0; j < WIDTH; j++) {
+            int top = 4 + random.nextInt(HEIGHT - 4);
+            for (int i = top; i < HEIGHT; i++) {
+                matrix[i][j] = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(7);
+            }
+        }
+        return matrix;
+    }
+}
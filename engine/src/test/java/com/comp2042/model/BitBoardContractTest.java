@@ -0,0 +1,11 @@
+package com.comp2042.model;
+
+import com.comp2042.model.brick.BrickGenerator;
+
+class BitBoardContractTest extends BoardContractTest {
+
+    @Override
+    Board createBoard(BrickGenerator brickGenerator) {
+        return new BitBoard(WIDTH, HEIGHT, brickGenerator);
+    }
+}
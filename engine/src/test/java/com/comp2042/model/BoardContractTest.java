@@ -0,0 +1,334 @@
+package com.comp2042.model;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.event.BoardListener;
+import com.comp2042.model.brick.BagBrickGenerator;
+import com.comp2042.model.brick.Brick;
+import com.comp2042.model.brick.BrickGenerator;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.MatrixOperations;
+import com.comp2042.util.ZobristKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Behaviour every Board implementation must share; each implementation runs it through a subclass.
+abstract class BoardContractTest {
+
+    static final int WIDTH = GameConstants.BOARD_WIDTH;
+    static final int HEIGHT = GameConstants.BOARD_HEIGHT;
+
+    private static final int I_COLOUR = 1;
+    private static final int I_LENGTH = 4;
+    private static final int O_COLOUR = 4;
+    // The horizontal I occupies row 1 of its shape, the vertical one column 1.
+    private static final int HORIZONTAL = 0;
+    private static final int VERTICAL = 1;
+
+    abstract Board createBoard(BrickGenerator brickGenerator);
+
+    @Test
+    void newGameSpawnsOnAnEmptyBoard() {
+        Board board = iBoard();
+        assertEquals(GameConstants.SPAWN_X, board.getActiveX());
+        assertEquals(GameConstants.SPAWN_Y, board.getActiveY());
+        assertEquals(HORIZONTAL, board.getActiveRotation());
+        assertFalse(board.isGameOver());
+        assertEquals(0, board.getScore().getValue());
+        assertArrayEquals(new int[HEIGHT][WIDTH], board.getBoardMatrix());
+        assertEquals(0L, board.getBoardHash());
+    }
+
+    @Test
+    void movesStopAtTheWallsAndTheFloor() {
+        Board board = iBoard();
+        int moves = 0;
+        while (board.moveBrickLeft()) {
+            moves++;
+        }
+        assertEquals(GameConstants.SPAWN_X, moves);
+        assertEquals(0, board.getActiveX());
+        while (board.moveBrickRight()) {
+            moves++;
+        }
+        assertEquals(WIDTH - I_LENGTH, board.getActiveX());
+        while (board.moveBrickDown()) {
+            moves++;
+        }
+        assertEquals(HEIGHT - 2, board.getActiveY());
+        assertArrayEquals(new int[HEIGHT][WIDTH], board.getBoardMatrix(), "a falling piece is not background");
+        assertEquals(0L, board.getBoardHash());
+    }
+
+    @Test
+    void rotationIsRefusedWhenItWouldLeaveTheBoard() {
+        Board board = iBoard();
+        assertTrue(board.rotateLeftBrick());
+        assertEquals(VERTICAL, board.getActiveRotation());
+        while (board.moveBrickLeft()) {
+        }
+        assertEquals(-1, board.getActiveX());
+        assertFalse(board.rotateLeftBrick());
+        assertEquals(VERTICAL, board.getActiveRotation());
+        while (board.moveBrickRight()) {
+        }
+        assertEquals(WIDTH - 2, board.getActiveX());
+        assertFalse(board.rotateLeftBrick());
+        assertEquals(VERTICAL, board.getActiveRotation());
+        board.moveBrickLeft();
+        board.moveBrickLeft();
+        assertTrue(board.rotateLeftBrick());
+        assertEquals(HORIZONTAL, board.getActiveRotation());
+    }
+
+    @Test
+    void rotationIsRefusedWhenItWouldOverlapTheBackground() {
+        Board board = iBoard();
+        int[][] background = new int[HEIGHT][WIDTH];
+        background[0][GameConstants.SPAWN_X + 1] = 2;
+        board.restore(background, 0);
+        assertFalse(board.rotateLeftBrick());
+        assertEquals(HORIZONTAL, board.getActiveRotation());
+    }
+
+    @Test
+    void lockingMergesThePieceIntoTheBackground() {
+        Board board = iBoard();
+        dropToRest(board);
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        assertSame(ClearRow.NONE, clearRow);
+        assertEquals(0, clearRow.getLinesRemoved());
+        assertEquals(0L, clearRow.getClearedRows());
+        assertEquals(0, clearRow.getScoreBonus());
+        int[][] expected = new int[HEIGHT][WIDTH];
+        for (int j = 0; j < I_LENGTH; j++) {
+            expected[HEIGHT - 1][GameConstants.SPAWN_X + j] = I_COLOUR;
+        }
+        assertArrayEquals(expected, board.getBoardMatrix());
+        assertEquals(ZobristKeys.matrixHash(expected), board.getBoardHash());
+        assertFalse(board.createNewBrick());
+        dropToRest(board);
+        assertEquals(HEIGHT - 3, board.getActiveY(), "the next piece lands on the locked one");
+    }
+
+    @Test
+    void clearingSeveralSeparatedRowsShiftsTheRestDown() {
+        Board board = iBoard();
+        int[][] background = new int[HEIGHT][WIDTH];
+        fillRow(background[HEIGHT - 1], 0, WIDTH - 1);
+        fillRow(background[HEIGHT - 2], 1, WIDTH - 1);
+        fillRow(background[HEIGHT - 3], 0, WIDTH - 1);
+        fillRow(background[HEIGHT - 4], 1, WIDTH - 1);
+        background[HEIGHT - 1][0] = 3;
+        background[HEIGHT - 3][0] = 5;
+        background[HEIGHT - 5][2] = 7;
+        board.restore(background, 0);
+        board.rotateLeftBrick();
+        while (board.moveBrickRight()) {
+        }
+        dropToRest(board);
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals((1L << (HEIGHT - 1)) | (1L << (HEIGHT - 3)), clearRow.getClearedRows());
+        assertEquals(MatrixOperations.scoreForLines(2), clearRow.getScoreBonus());
+        int[][] expected = new int[HEIGHT][WIDTH];
+        fillRow(expected[HEIGHT - 1], 1, WIDTH - 1);
+        fillRow(expected[HEIGHT - 2], 1, WIDTH - 1);
+        expected[HEIGHT - 1][WIDTH - 1] = I_COLOUR;
+        expected[HEIGHT - 2][WIDTH - 1] = I_COLOUR;
+        expected[HEIGHT - 3][2] = 7;
+        assertArrayEquals(expected, board.getBoardMatrix());
+        assertEquals(ZobristKeys.matrixHash(expected), board.getBoardHash());
+        assertEquals(0, board.clearRows().getLinesRemoved(), "rows are only checked once per lock");
+    }
+
+    @Test
+    void scoreFollowsRestoreAndNewGame() {
+        Board board = iBoard();
+        List<Integer> scores = new ArrayList<>();
+        board.addBoardListener(new RecordingListener() {
+            @Override
+            public void onScoreChanged(int score) {
+                scores.add(score);
+            }
+        });
+        board.restore(new int[HEIGHT][WIDTH], 120);
+        assertEquals(120, board.getScore().getValue());
+        board.getScore().add(MatrixOperations.scoreForLines(4));
+        assertEquals(120 + MatrixOperations.scoreForLines(4), board.getScore().getValue());
+        board.newGame();
+        assertEquals(0, board.getScore().getValue());
+        assertEquals(List.of(120, 120 + MatrixOperations.scoreForLines(4), 0), scores);
+    }
+
+    @Test
+    void blockedSpawnEndsTheGame() {
+        Board board = iBoard();
+        List<Boolean> gameOvers = new ArrayList<>();
+        board.addBoardListener(new RecordingListener() {
+            @Override
+            public void onGameOverChanged(boolean gameOver) {
+                gameOvers.add(gameOver);
+            }
+        });
+        int[][] background = new int[HEIGHT][WIDTH];
+        background[1][GameConstants.SPAWN_X + 2] = 6;
+        board.restore(background, 0);
+        assertTrue(board.createNewBrick());
+        assertTrue(board.isGameOver());
+        board.newGame();
+        assertFalse(board.isGameOver());
+        assertEquals(List.of(true, false), gameOvers);
+    }
+
+    @Test
+    void restoreLoadsACopyOfTheBackground() {
+        Board board = iBoard();
+        int[][] background = new int[HEIGHT][WIDTH];
+        for (int i = HEIGHT / 2; i < HEIGHT; i++) {
+            for (int j = 0; j < WIDTH; j++) {
+                background[i][j] = (i * 7 + j * 3) % 8;
+            }
+        }
+        int[][] expected = MatrixOperations.copy(background);
+        board.restore(background, 0);
+        background[HEIGHT - 1][0] = 5;
+        assertArrayEquals(expected, board.getBoardMatrix());
+        assertEquals(ZobristKeys.matrixHash(expected), board.getBoardHash());
+    }
+
+    @Test
+    void stateHashCoversBackgroundPieceRotationAndPreview() {
+        Board board = createBoard(new BagBrickGenerator(11L));
+        board.newGame();
+        for (int piece = 0; piece < 20 && !board.isGameOver(); piece++) {
+            if (piece % 3 == 0) {
+                board.rotateLeftBrick();
+            }
+            for (int step = 0; step < piece % 5; step++) {
+                board.moveBrickLeft();
+            }
+            long boardHash = board.getBoardHash();
+            assertEquals(boardHash
+                            ^ ZobristKeys.pieceKey(board.getActiveShape().getColour(), board.getActiveRotation())
+                            ^ ZobristKeys.previewKey(0, board.getPreviewShape().getColour()),
+                    board.getStateHash());
+            long stateHash = board.getStateHash();
+            int rotation = board.getActiveRotation();
+            if (board.rotateLeftBrick() && board.getActiveRotation() != rotation) {
+                assertNotEquals(stateHash, board.getStateHash());
+                assertEquals(boardHash, board.getBoardHash());
+            }
+            dropToRest(board);
+            board.mergeBrickToBackground();
+            board.clearRows();
+            assertEquals(ZobristKeys.matrixHash(board.getBoardMatrix()), board.getBoardHash());
+            board.createNewBrick();
+        }
+    }
+
+    @Test
+    void publishedMatrixIsNotWrittenUntilTheNextChange() {
+        Board board = createBoard(new FixedBrickGenerator(SeededBrickGenerator.brickForColour(O_COLOUR)));
+        PublishedMatrixCheck check = new PublishedMatrixCheck();
+        board.addBoardListener(check);
+        board.newGame();
+        int lines = 0;
+        // O pieces laid side by side, so every fifth piece completes two rows.
+        for (int piece = 0; piece < 200; piece++) {
+            int column = (piece * 2) % WIDTH;
+            while (board.getActiveX() + 1 > column && board.moveBrickLeft()) {
+            }
+            while (board.getActiveX() + 1 < column && board.moveBrickRight()) {
+            }
+            dropToRest(board);
+            board.mergeBrickToBackground();
+            lines += board.clearRows().getLinesRemoved();
+            assertFalse(board.createNewBrick());
+        }
+        assertEquals(80, lines);
+        assertEquals(1 + 200 + 40, check.publications, "one publication per new game, lock and clear");
+        assertArrayEquals(new int[HEIGHT][WIDTH], check.published);
+    }
+
+    private Board iBoard() {
+        Board board = createBoard(new FixedBrickGenerator(SeededBrickGenerator.brickForColour(I_COLOUR)));
+        board.newGame();
+        return board;
+    }
+
+    private static void dropToRest(Board board) {
+        while (board.moveBrickDown()) {
+        }
+    }
+
+    private static void fillRow(int[] row, int from, int to) {
+        for (int j = from; j < to; j++) {
+            row[j] = 2;
+        }
+    }
+
+    private static final class FixedBrickGenerator implements BrickGenerator {
+
+        private final Brick brick;
+
+        private FixedBrickGenerator(Brick brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return brick;
+        }
+    }
+
+    private static class RecordingListener implements BoardListener {
+
+        @Override
+        public void onBoardChanged(int[][] boardMatrix) {
+        }
+
+        @Override
+        public void onScoreChanged(int score) {
+        }
+
+        @Override
+        public void onGameOverChanged(boolean gameOver) {
+        }
+    }
+
+    // Listeners may keep the matrix they were given; it must not change before the next board change is fired.
+    private static final class PublishedMatrixCheck extends RecordingListener {
+
+        private int[][] published;
+        private int[][] snapshot;
+        private int publications;
+
+        @Override
+        public void onBoardChanged(int[][] boardMatrix) {
+            if (published != null) {
+                assertArrayEquals(snapshot, published, "published matrix changed after it was handed out");
+            }
+            published = boardMatrix;
+            snapshot = MatrixOperations.copy(boardMatrix);
+            publications++;
+        }
+    }
+}
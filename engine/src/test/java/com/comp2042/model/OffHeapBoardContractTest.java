@@ -0,0 +1,21 @@
+package com.comp2042.model;
+
+import com.comp2042.model.brick.BrickGenerator;
+import org.junit.jupiter.api.AfterEach;
+
+import java.lang.foreign.Arena;
+
+class OffHeapBoardContractTest extends BoardContractTest {
+
+    private final Arena arena = Arena.ofConfined();
+
+    @Override
+    Board createBoard(BrickGenerator brickGenerator) {
+        return new OffHeapBoard(WIDTH, HEIGHT, brickGenerator, arena);
+    }
+
+    @AfterEach
+    void closeArena() {
+        arena.close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.model;
+
+import com.comp2042.model.brick.BagBrickGenerator;
+import com.comp2042.util.GameConstants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimpleBoardAllocationTest {
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 200;
+    private static final int MOVES_PER_ROUND = 40;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final long threadId = Thread.currentThread().threadId();
+
+    @Test
+    void moveAndRotateAllocateNothing() {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            playRound(freshBoard(round));
+        }
+        long overhead = measurementOverhead();
+        long allocated = 0;
+        long calls = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            SimpleBoard board = freshBoard(round);
+            long before = threads.getThreadAllocatedBytes(threadId);
+            calls += playRound(board);
+            allocated += threads.getThreadAllocatedBytes(threadId) - before - overhead;
+        }
+        assertEquals(0.0, (double) allocated / calls, "bytes per move/rotate call");
+    }
+
+    private SimpleBoard freshBoard(long seed) {
+        SimpleBoard board = new SimpleBoard(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT,
+                new BagBrickGenerator(seed));
+        board.newGame();
+        return board;
+    }
+
+    // Walks the piece into both walls and the floor, so blocked and successful moves are both measured.
+    private static int playRound(SimpleBoard board) {
+        int calls = 0;
+        for (int i = 0; i < MOVES_PER_ROUND; i++) {
+            if (i % 8 < 4) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+            board.rotateLeftBrick();
+            board.moveBrickDown();
+            calls += 3;
+        }
+        return calls;
+    }
+
+    private long measurementOverhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+        return overhead;
+    }
+}
@@ -1,29 +0,0 @@
-package com.comp2042.data;
-
-import com.comp2042.util.MatrixOperations;
-
-public final class ClearRow {
-
-    private final int linesRemoved;
-    private final int[][] newMatrix;
-    private final int scoreBonus;
-
-    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
-        this.linesRemoved = linesRemoved;
-        this.newMatrix = newMatrix;
-        this.scoreBonus = scoreBonus;
-    }
-
-    public int getLinesRemoved() {
-        return linesRemoved;
-    }
-
-    public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
-    }
-
-    public int getScoreBonus() {
-        return scoreBonus;
-    }
-}
-
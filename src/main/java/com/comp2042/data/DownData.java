@@ -1,20 +0,0 @@
-package com.comp2042.data;
-
-public final class DownData {
-    private final ClearRow clearRow;
-    private final ViewData viewData;
-
-    public DownData(ClearRow clearRow, ViewData viewData) {
-        this.clearRow = clearRow;
-        this.viewData = viewData;
-    }
-
-    public ClearRow getClearRow() {
-        return clearRow;
-    }
-
-    public ViewData getViewData() {
-        return viewData;
-    }
-}
-
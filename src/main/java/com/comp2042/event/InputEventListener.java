@@ -1,13 +0,0 @@
-package com.comp2042.event;
-
-import com.comp2042.data.DownData;
-import com.comp2042.data.ViewData;
-
-public interface InputEventListener {
-
-    DownData onDownEvent(MoveEvent event);
-    ViewData onLeftEvent(MoveEvent event);
-    ViewData onRightEvent(MoveEvent event);
-    ViewData onRotateEvent(MoveEvent event);
-    ViewData createNewGame();
-}
@@ -1,30 +0,0 @@
-package com.comp2042.model;
-
-import com.comp2042.model.brick.Brick;
-import com.comp2042.model.brick.NextShapeInfo;
-
-public class BrickRotator {
-
-    private Brick brick;
-    private int currentShape = 0;
-
-    public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
-    }
-
-    public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
-    }
-
-    public void setCurrentShape(int currentShape) {
-        this.currentShape = currentShape;
-    }
-
-    public void setBrick(Brick brick) {
-        this.brick = brick;
-        currentShape = 0;
-    }
-}
-
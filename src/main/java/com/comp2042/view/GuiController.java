@@ -1,234 +0,0 @@
-package com.comp2042.view;
-
-import com.comp2042.data.DownData;
-import com.comp2042.data.ViewData;
-import com.comp2042.event.EventSource;
-import com.comp2042.event.EventType;
-import com.comp2042.event.InputEventListener;
-import com.comp2042.event.MoveEvent;
-import com.comp2042.model.Board;
-import com.comp2042.util.ColorMapper;
-import com.comp2042.util.GameConstants;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.value.ChangeListener;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
-import javafx.fxml.FXML;
-import javafx.fxml.Initializable;
-import javafx.scene.Group;
-import javafx.scene.effect.Reflection;
-import javafx.scene.input.KeyCode;
-import javafx.scene.input.KeyEvent;
-import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
-import javafx.util.Duration;
-
-import java.net.URL;
-import java.util.ResourceBundle;
-
-public class GuiController implements Initializable {
-
-    @FXML
-    private BorderPane gameBoard;
-
-    @FXML
-    private Pane gameCanvas;
-
-    @FXML
-    private GridPane gamePanel;
-
-    @FXML
-    private Group groupNotification;
-
-    @FXML
-    private GridPane brickPanel;
-
-    @FXML
-    private GameOverPanel gameOverPanel;
-
-    private Rectangle[][] displayMatrix;
-
-    private InputEventListener eventListener;
-
-    private Rectangle[][] rectangles;
-
-    private Timeline timeLine;
-
-    private final BooleanProperty isPause = new SimpleBooleanProperty();
-
-    private final BooleanProperty isGameOver = new SimpleBooleanProperty();
-
-    private Board board;
-
-    @Override
-    public void initialize(URL location, ResourceBundle resources) {
-        Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
-        gamePanel.setFocusTraversable(true);
-        gamePanel.requestFocus();
-        gamePanel.setOnKeyPressed(new EventHandler<KeyEvent>() {
-            @Override
-            public void handle(KeyEvent keyEvent) {
-                if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                    if (keyEvent.getCode() == KeyCode.LEFT || keyEvent.getCode() == KeyCode.A) {
-                        refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.RIGHT || keyEvent.getCode() == KeyCode.D) {
-                        refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
-                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-                        keyEvent.consume();
-                    }
-                }
-                if (keyEvent.getCode() == KeyCode.N) {
-                    newGame(null);
-                }
-            }
-        });
-        gameOverPanel.setVisible(false);
-
-        final Reflection reflection = new Reflection();
-        reflection.setFraction(0.8);
-        reflection.setTopOpacity(0.9);
-        reflection.setTopOffset(-12);
-    }
-
-    public void bind(Board board) {
-        this.board = board;
-        
-        ChangeListener<int[][]> boardMatrixListener = (obs, oldVal, newVal) -> {
-            if (newVal != null) {
-                refreshGameBackground(newVal);
-            }
-        };
-        
-        ChangeListener<Boolean> gameOverListener = (obs, oldVal, newVal) -> {
-            if (newVal != null && newVal) {
-                gameOver();
-            } else {
-                gameOverPanel.setVisible(false);
-                isGameOver.setValue(Boolean.FALSE);
-            }
-        };
-        
-        board.boardMatrixProperty().addListener(boardMatrixListener);
-        board.isGameOverProperty().addListener(gameOverListener);
-        
-        if (board.getBoardMatrix() != null && board.getViewData() != null) {
-            initGameView(board.getBoardMatrix(), board.getViewData());
-        }
-    }
-
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = GameConstants.HIDDEN_BUFFER_ROWS; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - GameConstants.HIDDEN_BUFFER_ROWS);
-            }
-        }
-
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(ColorMapper.getColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
-        }
-        brickPanel.setLayoutX(brick.getxPosition() * (GameConstants.BRICK_SIZE + GameConstants.GAP));
-        brickPanel.setLayoutY((brick.getyPosition() - GameConstants.HIDDEN_BUFFER_ROWS) * (GameConstants.BRICK_SIZE + GameConstants.GAP));
-
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(GameConstants.GAME_TICK_MS),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-    }
-
-    private void refreshBrick(ViewData brick) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            brickPanel.setLayoutX(brick.getxPosition() * (GameConstants.BRICK_SIZE + GameConstants.GAP));
-            brickPanel.setLayoutY((brick.getyPosition() - GameConstants.HIDDEN_BUFFER_ROWS) * (GameConstants.BRICK_SIZE + GameConstants.GAP));
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
-        }
-    }
-
-    public void refreshGameBackground(int[][] board) {
-        for (int i = GameConstants.HIDDEN_BUFFER_ROWS; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
-        }
-    }
-
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(ColorMapper.getColor(color));
-        rectangle.setArcHeight(GameConstants.BRICK_ARC_SIZE);
-        rectangle.setArcWidth(GameConstants.BRICK_ARC_SIZE);
-    }
-
-    private void moveDown(MoveEvent event) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            refreshBrick(downData.getViewData());
-        }
-        gamePanel.requestFocus();
-    }
-
-    public void setEventListener(InputEventListener eventListener) {
-        this.eventListener = eventListener;
-    }
-
-    public void bindScore(IntegerProperty integerProperty) {
-    }
-
-    public void gameOver() {
-        timeLine.stop();
-        gameOverPanel.setVisible(true);
-        isGameOver.setValue(Boolean.TRUE);
-    }
-
-    public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
-        gameOverPanel.setVisible(false);
-        ViewData viewData = eventListener.createNewGame();
-        refreshBrick(viewData);
-        gamePanel.requestFocus();
-        timeLine.play();
-        isPause.setValue(Boolean.FALSE);
-        isGameOver.setValue(Boolean.FALSE);
-    }
-
-    public void pauseGame(ActionEvent actionEvent) {
-        gamePanel.requestFocus();
-    }
-}
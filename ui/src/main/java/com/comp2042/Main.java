@@ -0,0 +1,179 @@
+package com.comp2042;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.leaderboard.HighScoreLog;
+import com.comp2042.leaderboard.HighScoreSubmitter;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.brick.BrickGeneratorType;
+import com.comp2042.model.brick.SeededBrickGenerator;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.util.GameConstants;
+import com.comp2042.view.BoardPropertyAdapter;
+import com.comp2042.view.GuiController;
+import javafx.application.Application;
+import javafx.fxml.FXMLLoader;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.transform.Scale;
+import javafx.stage.Screen;
+import javafx.stage.Stage;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ResourceBundle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+public class Main extends Application {
+
+    private static final BrickGeneratorType GENERATOR_TYPE = BrickGeneratorType.RANDOM;
+
+    private ReplayArchive replayArchive;
+    private HighScoreLog highScores;
+    private HighScoreSubmitter highScoreSubmitter;
+    private ReplayRecorder recorder;
+    private GameLoop gameLoop;
+
+    @Override
+    public void start(Stage primaryStage) throws Exception {
+
+        long seed = ThreadLocalRandom.current().nextLong();
+        SeededBrickGenerator brickGenerator = GENERATOR_TYPE.create(seed);
+        Board board = new SimpleBoard(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, brickGenerator);
+        try {
+            launchGame(primaryStage, board, brickGenerator, seed);
+        } catch (Exception e) {
+            try {
+                stop();
+            } catch (Exception suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    // Persistence is opened before the window appears, and whatever was opened is closed by start() if a later step fails.
+    private void launchGame(Stage primaryStage, Board board, SeededBrickGenerator brickGenerator, long seed) throws Exception {
+        Path dataDirectory = Paths.get(System.getProperty("user.home"), ".tetris");
+        Consumer<byte[]> replaySink = recording -> {
+        };
+        try {
+            replayArchive = new ReplayArchive(dataDirectory.resolve("replays"));
+            replaySink = replayArchive;
+        } catch (IOException e) {
+            // Usually another window owns the archive; this one still plays, it just does not keep replays.
+            System.err.println("Replays will not be saved: " + e.getMessage());
+        }
+        try {
+            highScores = new HighScoreLog(dataDirectory.resolve("highscores.log"));
+            highScoreSubmitter = new HighScoreSubmitter(highScores, System.getProperty("user.name"));
+            board.addBoardListener(highScoreSubmitter);
+        } catch (IOException e) {
+            System.err.println("High scores will not be saved: " + e.getMessage());
+        }
+
+        URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
+        ResourceBundle resources = null;
+        FXMLLoader fxmlLoader = new FXMLLoader(location, resources);
+        Parent gameRoot = fxmlLoader.load();
+        GuiController guiController = fxmlLoader.getController();
+
+        Screen screen = Screen.getPrimary();
+        Rectangle2D bounds = screen.getVisualBounds();
+        double screenWidth = bounds.getWidth();
+        double screenHeight = bounds.getHeight();
+        
+        double screenOccupancyRatio = 0.95;
+        double targetWidth = screenWidth * screenOccupancyRatio;
+        double targetHeight = screenHeight * screenOccupancyRatio;
+        
+        double boardActualWidth = GameConstants.BOARD_WIDTH * GameConstants.BRICK_SIZE + 
+                         (GameConstants.BOARD_WIDTH - 1) * GameConstants.GAP + 
+                         (GameConstants.BORDER_WIDTH * 2);
+
+        double previewActualWidth = GameConstants.PREVIEW_SIZE * GameConstants.BRICK_SIZE +
+                         (GameConstants.PREVIEW_SIZE - 1) * GameConstants.GAP +
+                         (GameConstants.BORDER_WIDTH * 3);
+
+        double boardActualHeight = (GameConstants.BOARD_HEIGHT - GameConstants.HIDDEN_BUFFER_ROWS) * GameConstants.BRICK_SIZE + 
+                          (GameConstants.BOARD_HEIGHT - GameConstants.HIDDEN_BUFFER_ROWS - 1) * GameConstants.GAP + 
+                          (GameConstants.BORDER_WIDTH * 2);
+
+        double idealWidth = boardActualWidth + previewActualWidth + GameConstants.WINDOW_PADDING_X;
+        double idealHeight = boardActualHeight + GameConstants.WINDOW_PADDING_Y;
+        
+        if (gameRoot instanceof Pane) {
+            ((Pane) gameRoot).setPrefSize(idealWidth, idealHeight);
+            ((Pane) gameRoot).setMaxSize(idealWidth, idealHeight);
+            ((Pane) gameRoot).setMinSize(idealWidth, idealHeight);
+        }
+        
+        Pane backgroundRoot = new Pane();
+        backgroundRoot.getChildren().add(gameRoot);
+        
+        double scale = Math.min(targetWidth / idealWidth, targetHeight / idealHeight);
+        
+        gameRoot.getTransforms().add(new Scale(scale, scale));
+        guiController.setRenderScale(scale * screen.getOutputScaleX());
+        
+        double x = (targetWidth - idealWidth * scale) / 2;
+        double y = (targetHeight - idealHeight * scale) / 2;
+        gameRoot.setLayoutX(x);
+        gameRoot.setLayoutY(y);
+
+        primaryStage.setTitle("Tetris");
+        Scene scene = new Scene(backgroundRoot, targetWidth, targetHeight);
+        backgroundRoot.setStyle("-fx-background-color: black;");
+        primaryStage.setScene(scene);
+        primaryStage.show();
+        
+        GameController gameController = new GameController(board);
+        recorder = new ReplayRecorder(gameController, board, GENERATOR_TYPE, seed, brickGenerator, replaySink);
+        gameLoop = new GameLoop(board, recorder);
+        recorder.setClock(gameLoop::getTicks, gameLoop.getStepNanos());
+        BoardPropertyAdapter boardProperties = new BoardPropertyAdapter(board);
+        guiController.bindScore(boardProperties.scoreProperty());
+        guiController.bindGameOver(boardProperties.isGameOverProperty());
+        guiController.bind(gameLoop);
+    }
+
+    // Archives the game in progress too; the loop thread has stopped, so the recorder is no longer in use.
+    // Each resource is closed even when an earlier one fails, and those start() never opened are skipped.
+    @Override
+    public void stop() throws Exception {
+        try {
+            if (gameLoop != null) {
+                gameLoop.stop();
+            }
+            if (recorder != null) {
+                recorder.finish();
+            }
+        } finally {
+            try {
+                if (replayArchive != null) {
+                    replayArchive.close();
+                }
+            } finally {
+                try {
+                    if (highScoreSubmitter != null) {
+                        highScoreSubmitter.shutdown();
+                    }
+                } finally {
+                    if (highScores != null) {
+                        highScores.close();
+                    }
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
\ No newline at end of file
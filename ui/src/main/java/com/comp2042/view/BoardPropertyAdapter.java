@@ -0,0 +1,70 @@
+package com.comp2042.view;
+
+import com.comp2042.event.BoardListener;
+import com.comp2042.model.Board;
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Board events arrive on the game loop thread; the properties only change on the FX thread, and a burst of
+// events between two FX runs is applied as one update. The board itself is drawn from frame snapshots instead.
+public final class BoardPropertyAdapter implements BoardListener {
+
+    private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private final Runnable applyUpdate = this::applyUpdate;
+
+    private volatile int latestScore;
+    private volatile boolean latestGameOver;
+
+    // Must run before the game loop starts, while the board can still be read from this thread.
+    public BoardPropertyAdapter(Board board) {
+        latestScore = board.getScore().getValue();
+        latestGameOver = board.isGameOver();
+        score.set(latestScore);
+        isGameOver.set(latestGameOver);
+        board.addBoardListener(this);
+    }
+
+    public BooleanProperty isGameOverProperty() {
+        return isGameOver;
+    }
+
+    public IntegerProperty scoreProperty() {
+        return score;
+    }
+
+    @Override
+    public void onBoardChanged(int[][] boardMatrix) {
+    }
+
+    @Override
+    public void onScoreChanged(int score) {
+        latestScore = score;
+        scheduleUpdate();
+    }
+
+    @Override
+    public void onGameOverChanged(boolean gameOver) {
+        latestGameOver = gameOver;
+        scheduleUpdate();
+    }
+
+    private void scheduleUpdate() {
+        if (!updateScheduled.getAndSet(true)) {
+            Platform.runLater(applyUpdate);
+        }
+    }
+
+    // The flag is cleared first, so an event that lands after the reads below schedules another update.
+    private void applyUpdate() {
+        updateScheduled.set(false);
+        score.set(latestScore);
+        isGameOver.set(latestGameOver);
+    }
+}
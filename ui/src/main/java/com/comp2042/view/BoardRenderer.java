@@ -0,0 +1,221 @@
+package com.comp2042.view;
+
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.model.brick.BrickShape;
+import com.comp2042.util.GameConstants;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.transform.Scale;
+
+import java.util.Arrays;
+
+public final class BoardRenderer {
+
+    private static final int PITCH = GameConstants.BRICK_SIZE + GameConstants.GAP;
+    private static final int BORDER = GameConstants.BORDER_WIDTH;
+    private static final double PREVIEW_BORDER_WIDTH = 2;
+    private static final double PREVIEW_BORDER_RADIUS = 17;
+    private static final LinearGradient WELL_BORDER = new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+            new Stop(0, Color.web("#2A5058")), new Stop(1, Color.web("#61a2b1")));
+
+    private static final int UNKNOWN = -1;
+
+    private final int columns;
+    private final int hiddenRows;
+    private final int visibleRows;
+    private final double width;
+    private final double height;
+    private final double previewX;
+
+    private final Canvas canvas = new Canvas();
+    private final Scale inverseScale = new Scale(1, 1, 0, 0);
+    private double pixelScale;
+    private int cellPixels;
+    private CellSprites sprites;
+    private Image background;
+    private boolean frameValid;
+
+    private final int[][] renderedWell;
+    private final int[][] nextWell;
+    private final int[][] renderedPreview = new int[GameConstants.PREVIEW_SIZE][GameConstants.PREVIEW_SIZE];
+    private final int[][] nextPreview = new int[GameConstants.PREVIEW_SIZE][GameConstants.PREVIEW_SIZE];
+    private int cellsRepainted;
+    private long totalCellsRepainted;
+    private long framesRendered;
+
+    public BoardRenderer(int columns, int rows, int hiddenRows) {
+        this.columns = columns;
+        this.hiddenRows = hiddenRows;
+        visibleRows = rows - hiddenRows;
+        renderedWell = new int[visibleRows][columns];
+        nextWell = new int[visibleRows][columns];
+        double wellWidth = columns * PITCH - GameConstants.GAP + 2 * BORDER;
+        previewX = wellWidth + BORDER;
+        width = previewX + GameConstants.PREVIEW_SIZE * PITCH - GameConstants.GAP + 2 * BORDER;
+        height = visibleRows * PITCH - GameConstants.GAP + 2 * BORDER;
+        canvas.getTransforms().add(inverseScale);
+        setPixelScale(1);
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    // The canvas backing store is sized in device pixels and scaled back down, so an enclosing Scale transform
+    // maps it 1:1 onto the screen instead of stretching a bitmap rendered at layout size.
+    public void setPixelScale(double pixelScale) {
+        if (pixelScale == this.pixelScale) {
+            return;
+        }
+        this.pixelScale = pixelScale;
+        canvas.setWidth(Math.ceil(width * pixelScale));
+        canvas.setHeight(Math.ceil(height * pixelScale));
+        inverseScale.setX(1 / pixelScale);
+        inverseScale.setY(1 / pixelScale);
+        cellPixels = (int) Math.round(GameConstants.BRICK_SIZE * pixelScale);
+        sprites = new CellSprites(cellPixels, pixelScale);
+        background = rasteriseBackground();
+        frameValid = false;
+    }
+
+    public int getCellsRepainted() {
+        return cellsRepainted;
+    }
+
+    public long getTotalCellsRepainted() {
+        return totalCellsRepainted;
+    }
+
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    // Composes the next frame into a scratch grid and only repaints cells that differ from the last rendered frame.
+    // A non-zero pieceOffset (in rows) draws the active piece floating between rows on top of the composed cells.
+    public void render(FrameSnapshot frame, double pieceOffset) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        if (!frameValid) {
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            gc.drawImage(background, 0, 0);
+            fill(renderedWell, 0);
+            fill(renderedPreview, 0);
+        }
+        int[][] cells = frame.getCells();
+        for (int i = 0; i < visibleRows; i++) {
+            System.arraycopy(cells[i + hiddenRows], 0, nextWell[i], 0, columns);
+        }
+        fill(nextPreview, 0);
+        BrickShape active = frame.getActiveShape();
+        if (active != null && pieceOffset == 0) {
+            overlay(nextWell, active, frame.getActiveX(), frame.getActiveY() - hiddenRows);
+        }
+        if (frame.getPreviewShape() != null) {
+            overlay(nextPreview, frame.getPreviewShape(), 0, 0);
+        }
+        int repainted = repaint(gc, renderedWell, nextWell, BORDER, !frameValid)
+                + repaint(gc, renderedPreview, nextPreview, previewX + BORDER, !frameValid);
+        if (active != null && pieceOffset != 0) {
+            repainted += drawFloating(gc, active, frame.getActiveX(), frame.getActiveY() - hiddenRows + pieceOffset);
+        }
+        frameValid = true;
+        cellsRepainted = repainted;
+        totalCellsRepainted += repainted;
+        framesRendered++;
+    }
+
+    private int repaint(GraphicsContext gc, int[][] rendered, int[][] next, double originX, boolean all) {
+        int repainted = 0;
+        for (int i = 0; i < next.length; i++) {
+            int[] renderedRow = rendered[i];
+            int[] nextRow = next[i];
+            for (int j = 0; j < nextRow.length; j++) {
+                int colour = nextRow[j];
+                if (colour == renderedRow[j] && !all) {
+                    continue;
+                }
+                double x = Math.round((originX + j * PITCH) * pixelScale);
+                double y = Math.round((BORDER + i * PITCH) * pixelScale);
+                if (!all) {
+                    double clearHeight = i < next.length - 1 ? Math.round((BORDER + (i + 1) * PITCH) * pixelScale) - y : cellPixels;
+                    gc.clearRect(x, y, cellPixels, clearHeight);
+                }
+                if (colour != 0) {
+                    gc.drawImage(sprites.get(colour), x, y);
+                }
+                renderedRow[j] = colour;
+                repainted++;
+            }
+        }
+        return repainted;
+    }
+
+    // Cells under a floating piece are marked unknown so the next frame repaints them whatever it contains.
+    private int drawFloating(GraphicsContext gc, BrickShape shape, int x, double y) {
+        Image sprite = sprites.get(shape.getColour());
+        int drawn = 0;
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            double row = y + shape.getCellY(i);
+            int top = (int) Math.floor(row);
+            int column = x + shape.getCellX(i);
+            if (top < 0 || top >= visibleRows || column < 0 || column >= columns) {
+                continue;
+            }
+            gc.drawImage(sprite, Math.round((BORDER + column * PITCH) * pixelScale),
+                    Math.round((BORDER + row * PITCH) * pixelScale));
+            renderedWell[top][column] = UNKNOWN;
+            if (top + 1 < visibleRows) {
+                renderedWell[top + 1][column] = UNKNOWN;
+            }
+            drawn++;
+        }
+        return drawn;
+    }
+
+    private static void overlay(int[][] target, BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellY(i);
+            int column = x + shape.getCellX(i);
+            if (row >= 0 && row < target.length && column >= 0 && column < target[row].length) {
+                target[row][column] = shape.getColour();
+            }
+        }
+    }
+
+    private static void fill(int[][] cells, int value) {
+        for (int[] row : cells) {
+            Arrays.fill(row, value);
+        }
+    }
+
+    private Image rasteriseBackground() {
+        Canvas scratch = new Canvas(canvas.getWidth(), canvas.getHeight());
+        GraphicsContext gc = scratch.getGraphicsContext2D();
+        gc.scale(pixelScale, pixelScale);
+        gc.setStroke(WELL_BORDER);
+        gc.setLineWidth(BORDER);
+        gc.strokeRoundRect(BORDER / 2.0, BORDER / 2.0, previewX - 2 * BORDER, height - BORDER, BORDER, BORDER);
+        gc.setStroke(Color.WHITESMOKE);
+        gc.setLineWidth(PREVIEW_BORDER_WIDTH);
+        double previewSize = GameConstants.PREVIEW_SIZE * PITCH - GameConstants.GAP + 2 * BORDER;
+        gc.strokeRoundRect(previewX + PREVIEW_BORDER_WIDTH / 2, PREVIEW_BORDER_WIDTH / 2,
+                previewSize - PREVIEW_BORDER_WIDTH, previewSize - PREVIEW_BORDER_WIDTH,
+                PREVIEW_BORDER_RADIUS, PREVIEW_BORDER_RADIUS);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return scratch.snapshot(parameters, null);
+    }
+}
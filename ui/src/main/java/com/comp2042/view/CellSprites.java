@@ -0,0 +1,39 @@
+package com.comp2042.view;
+
+import com.comp2042.util.ColorMapper;
+import com.comp2042.util.GameConstants;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+final class CellSprites {
+
+    private static final int COLOUR_COUNT = 8;
+
+    private final Image[] sprites = new Image[COLOUR_COUNT];
+    private final Image fallback;
+
+    CellSprites(int cellPixels, double pixelScale) {
+        for (int colour = 1; colour < COLOUR_COUNT; colour++) {
+            sprites[colour] = rasterise(colour, cellPixels, pixelScale);
+        }
+        fallback = rasterise(-1, cellPixels, pixelScale);
+    }
+
+    Image get(int colour) {
+        return colour > 0 && colour < COLOUR_COUNT ? sprites[colour] : fallback;
+    }
+
+    private static Image rasterise(int colour, int cellPixels, double pixelScale) {
+        Canvas canvas = new Canvas(cellPixels, cellPixels);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double arc = GameConstants.BRICK_ARC_SIZE * pixelScale;
+        gc.setFill(ColorMapper.getColor(colour));
+        gc.fillRoundRect(0, 0, cellPixels, cellPixels, arc, arc);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+}
@@ -0,0 +1,194 @@
+package com.comp2042.view;
+
+import com.comp2042.data.ClearRow;
+import com.comp2042.event.EventType;
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.util.GameConstants;
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Label;
+import javafx.scene.effect.Reflection;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.text.Font;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+public class GuiController implements Initializable {
+
+    // Run with -Dtetris.renderStats=true to log how many frames were drawn and cells repainted each second.
+    private static final boolean LOG_RENDER_STATS = Boolean.getBoolean("tetris.renderStats");
+    private static final long RENDER_STATS_INTERVAL_NANOS = 1_000_000_000L;
+
+    @FXML
+    private BorderPane gameBoard;
+
+    @FXML
+    private Group gameCanvas;
+
+    @FXML
+    private Group groupNotification;
+
+    @FXML
+    private GameOverPanel gameOverPanel;
+
+    @FXML
+    private Label scoreValue;
+
+    private final BoardRenderer renderer = new BoardRenderer(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, GameConstants.HIDDEN_BUFFER_ROWS);
+
+    private final RenderCoalescer renderCoalescer = new RenderCoalescer(this::renderFrame);
+
+    private GameLoop gameLoop;
+
+    private final BooleanProperty isPause = new SimpleBooleanProperty();
+
+    private final BooleanProperty isGameOver = new SimpleBooleanProperty();
+
+    private long statsStartNanos;
+    private long statsStartFrames;
+    private long statsStartCells;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
+        Canvas canvas = renderer.getCanvas();
+        gameCanvas.getChildren().add(canvas);
+        canvas.setFocusTraversable(true);
+        canvas.requestFocus();
+        canvas.setOnKeyPressed(new EventHandler<KeyEvent>() {
+            @Override
+            public void handle(KeyEvent keyEvent) {
+                if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
+                    if (keyEvent.getCode() == KeyCode.LEFT || keyEvent.getCode() == KeyCode.A) {
+                        gameLoop.submit(EventType.LEFT);
+                        keyEvent.consume();
+                    }
+                    if (keyEvent.getCode() == KeyCode.RIGHT || keyEvent.getCode() == KeyCode.D) {
+                        gameLoop.submit(EventType.RIGHT);
+                        keyEvent.consume();
+                    }
+                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
+                        gameLoop.submit(EventType.ROTATE);
+                        keyEvent.consume();
+                    }
+                    if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
+                        gameLoop.submit(EventType.DOWN);
+                        keyEvent.consume();
+                    }
+                }
+                if (keyEvent.getCode() == KeyCode.N) {
+                    newGame(null);
+                }
+            }
+        });
+        gameOverPanel.setVisible(false);
+
+        final Reflection reflection = new Reflection();
+        reflection.setFraction(0.8);
+        reflection.setTopOpacity(0.9);
+        reflection.setTopOffset(-12);
+    }
+
+    // The board is owned by the game loop thread from here on; the view only sees the snapshots it publishes.
+    public void bind(GameLoop gameLoop) {
+        this.gameLoop = gameLoop;
+        gameLoop.setPieceLockListener(this::onPieceLocked);
+        gameLoop.setSnapshotListener(renderCoalescer::requestRender);
+        gameLoop.reset();
+        renderCoalescer.requestRender();
+        renderCoalescer.start();
+        gameLoop.start();
+    }
+
+    public void setRenderScale(double pixelScale) {
+        renderer.setPixelScale(pixelScale);
+        renderCoalescer.requestRender();
+    }
+
+    // Published snapshots only mark the view stale; the latest one is read and drawn once per pulse.
+    private void renderFrame() {
+        FrameSnapshot frame = gameLoop.readSnapshot();
+        long now = System.nanoTime();
+        double pieceOffset = frame.getInterpolatedPieceOffset(now);
+        renderer.render(frame, pieceOffset);
+        if (pieceOffset != 0) {
+            renderCoalescer.requestRender();
+        }
+        if (LOG_RENDER_STATS) {
+            logRenderStats(now);
+        }
+    }
+
+    private void logRenderStats(long now) {
+        if (statsStartNanos == 0) {
+            statsStartNanos = now;
+            statsStartFrames = renderer.getFramesRendered();
+            statsStartCells = renderer.getTotalCellsRepainted();
+            return;
+        }
+        long elapsed = now - statsStartNanos;
+        if (elapsed < RENDER_STATS_INTERVAL_NANOS) {
+            return;
+        }
+        long frames = renderer.getFramesRendered() - statsStartFrames;
+        long cells = renderer.getTotalCellsRepainted() - statsStartCells;
+        System.out.printf("Rendered %d frames in %.2f s, %d cells repainted (%.1f per frame, %d in the last)%n",
+                frames, elapsed / 1e9, cells, (double) cells / frames, renderer.getCellsRepainted());
+        statsStartNanos = now;
+        statsStartFrames = renderer.getFramesRendered();
+        statsStartCells = renderer.getTotalCellsRepainted();
+    }
+
+    // Called on the game loop thread.
+    private void onPieceLocked(ClearRow clearRow) {
+        if (clearRow.getLinesRemoved() > 0) {
+            Platform.runLater(() -> {
+                NotificationPanel notificationPanel = new NotificationPanel("+" + clearRow.getScoreBonus());
+                groupNotification.getChildren().add(notificationPanel);
+                notificationPanel.showScore(groupNotification.getChildren());
+            });
+        }
+    }
+
+    public void bindScore(IntegerProperty integerProperty) {
+        scoreValue.textProperty().bind(integerProperty.asString());
+    }
+
+    public void bindGameOver(BooleanProperty gameOverProperty) {
+        gameOverProperty.addListener((observable, wasGameOver, gameOver) -> {
+            if (gameOver) {
+                gameOver();
+            } else {
+                gameOverPanel.setVisible(false);
+                isGameOver.setValue(Boolean.FALSE);
+            }
+        });
+    }
+
+    public void gameOver() {
+        gameOverPanel.setVisible(true);
+        isGameOver.setValue(Boolean.TRUE);
+    }
+
+    public void newGame(ActionEvent actionEvent) {
+        gameLoop.requestNewGame();
+        renderer.getCanvas().requestFocus();
+        isPause.setValue(Boolean.FALSE);
+    }
+
+    public void pauseGame(ActionEvent actionEvent) {
+        renderer.getCanvas().requestFocus();
+    }
+}
@@ -0,0 +1,26 @@
+package com.comp2042.view;
+
+import javafx.animation.AnimationTimer;
+
+final class RenderCoalescer extends AnimationTimer {
+
+    private final Runnable render;
+    private volatile boolean pending;
+
+    RenderCoalescer(Runnable render) {
+        this.render = render;
+    }
+
+    // May be called from any thread.
+    void requestRender() {
+        pending = true;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (pending) {
+            pending = false;
+            render.run();
+        }
+    }
+}